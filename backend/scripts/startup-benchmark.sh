@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# ─────────────────────────────────────────────────────────────────────────────
+# startup-benchmark.sh  —  Measures launch → first successful request
+# Run: bash scripts/startup-benchmark.sh [default|fast] [runs]
+#   default : java -jar on the regular build     (mvn package)
+#   fast    : AOT + CDS archive                  (mvn -Pfast-startup package)
+# ─────────────────────────────────────────────────────────────────────────────
+
+set -e
+
+MODE="${1:-default}"
+RUNS="${2:-5}"
+PORT="${PORT:-8080}"
+cd "$(dirname "$0")/.."
+
+JAR=$(ls target/*.jar | grep -v original | head -n 1)
+
+case "$MODE" in
+  default)
+    CMD=(java -jar "$JAR")
+    ;;
+  fast)
+    CMD=(java -XX:SharedArchiveFile=target/app-cds.jsa
+         -Dspring.aot.enabled=true
+         -Dspring.profiles.active=fast-startup
+         -cp "${JAR}.original:$(cat target/classpath.txt)"
+         com.pilotlogbook.PilotLogbookApplication)
+    ;;
+  *)
+    echo "Usage: $0 [default|fast] [runs]" && exit 1
+    ;;
+esac
+
+total=0
+for i in $(seq 1 "$RUNS"); do
+  start=$(date +%s%N)
+  "${CMD[@]}" --server.port="$PORT" > /tmp/startup-benchmark.log 2>&1 &
+  pid=$!
+  until curl -sf "http://localhost:$PORT/actuator/health" > /dev/null; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "❌  Application exited — see /tmp/startup-benchmark.log" && exit 1
+    fi
+    sleep 0.05
+  done
+  elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+  total=$(( total + elapsed ))
+  echo "run $i: ${elapsed} ms to first request"
+  kill "$pid" && wait "$pid" 2> /dev/null || true
+done
+
+echo "==> $MODE: mean $(( total / RUNS )) ms over $RUNS runs"
@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# ─────────────────────────────────────────────────────────────────────────────
+# uuid-insert-benchmark.sh  —  Random v4 vs time-ordered v7 primary keys
+# Run: bash scripts/uuid-insert-benchmark.sh [rows] [batch]
+#   Inserts the same rows into two scratch tables shaped like flight_log_entries,
+#   one keyed by gen_random_uuid(), one by uuid_generate_v7() (Flyway V12), and
+#   reports insert throughput, primary-key index size and WAL written.
+#   Connection: standard libpq variables (PGHOST, PGPORT, PGUSER, PGDATABASE).
+# ─────────────────────────────────────────────────────────────────────────────
+
+set -e
+
+ROWS="${1:-10000000}"
+BATCH="${2:-100000}"
+PSQL=(psql -X -q -v ON_ERROR_STOP=1 -t -A)
+
+"${PSQL[@]}" <<SQL
+DROP TABLE IF EXISTS bench_uuid_v4, bench_uuid_v7;
+CREATE TABLE bench_uuid_v4 (id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    pilot_id UUID NOT NULL, date DATE NOT NULL, total_flight_time NUMERIC(6,1) NOT NULL, remarks TEXT);
+CREATE TABLE bench_uuid_v7 (LIKE bench_uuid_v4 INCLUDING ALL);
+ALTER TABLE bench_uuid_v7 ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+SQL
+
+for table in bench_uuid_v4 bench_uuid_v7; do
+  wal_before=$("${PSQL[@]}" -c "SELECT pg_current_wal_lsn()")
+  start=$(date +%s%N)
+  inserted=0
+  while [ "$inserted" -lt "$ROWS" ]; do
+    n=$(( ROWS - inserted < BATCH ? ROWS - inserted : BATCH ))
+    "${PSQL[@]}" -c "INSERT INTO $table (pilot_id, date, total_flight_time, remarks)
+                     SELECT gen_random_uuid(), CURRENT_DATE - (g % 3650), (g % 50) / 10.0, 'benchmark'
+                     FROM generate_series(1, $n) g"
+    inserted=$(( inserted + n ))
+  done
+  elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+  "${PSQL[@]}" -F ' ' -c "SELECT
+      '$table',
+      round($ROWS / greatest($elapsed, 1)::numeric * 1000) || ' rows/s',
+      'pkey ' || pg_size_pretty(pg_relation_size('${table}_pkey')),
+      'heap ' || pg_size_pretty(pg_relation_size('$table')),
+      'wal '  || pg_size_pretty(pg_wal_lsn_diff(pg_current_wal_lsn(), '$wal_before'))"
+done
+
+"${PSQL[@]}" -c "DROP TABLE bench_uuid_v4, bench_uuid_v7"
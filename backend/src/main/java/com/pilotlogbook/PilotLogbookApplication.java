@@ -2,8 +2,10 @@ package com.pilotlogbook;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class PilotLogbookApplication {
     public static void main(String[] args) {
         SpringApplication.run(PilotLogbookApplication.class, args);
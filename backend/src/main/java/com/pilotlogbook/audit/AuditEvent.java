@@ -0,0 +1,22 @@
+package com.pilotlogbook.audit;
+
+import com.pilotlogbook.event.ChangeType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One committed change, captured on the committing thread and persisted later.
+ *
+ * @param changes JSON object of {@code {"field": {"from": .., "to": ..}}}, serialized at capture
+ *                time so the event holds no references to entity state
+ */
+public record AuditEvent(
+        UUID id,
+        Instant occurredAt,
+        String actor,
+        String entityType,
+        UUID entityId,
+        ChangeType action,
+        String changes) {
+}
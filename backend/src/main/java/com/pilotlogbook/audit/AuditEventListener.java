@@ -0,0 +1,223 @@
+package com.pilotlogbook.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pilotlogbook.event.ChangeType;
+import com.pilotlogbook.model.Aircraft;
+import com.pilotlogbook.model.FlightLogEntry;
+import com.pilotlogbook.model.MaintenanceRecord;
+import com.pilotlogbook.model.id.UuidV7Generator;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Captures field-level diffs of audited entities once their transaction has committed and
+ * hands them to the {@link AuditWriter}. Runs on the committing thread, so it only compares
+ * the state arrays Hibernate already holds and never touches the database.
+ * <p>
+ * Element collections (flight approach types) are recorded on create and delete only: Hibernate
+ * reports the same collection instance as both old and new state on update. Bulk JDBC writes
+ * bypass Hibernate; those that change audited fields report themselves through
+ * {@link #recordBulkUpdate} or {@link #recordBulkInsert} once committed.
+ * Never lazy: nothing needs to inject it for auditing to start, only its registration has to run.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class AuditEventListener implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Set<Class<?>> AUDITED = Set.of(Aircraft.class, FlightLogEntry.class, MaintenanceRecord.class);
+    private static final Set<String> IGNORED = Set.of("changeSeq", "createdAt", "updatedAt", "fingerprint", "legacyDuplicate");
+    private static final String SYSTEM_ACTOR = "system";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditWriter writer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.audit.enabled:true}")
+    private boolean enabled;
+
+    @PostConstruct
+    void register() {
+        if (!enabled) {
+            return;
+        }
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return AUDITED.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        record(event.getPersister(), event.getId(), ChangeType.CREATED, null, event.getState(), event.getSession());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        record(event.getPersister(), event.getId(), ChangeType.UPDATED, event.getOldState(), event.getState(),
+                event.getSession());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        record(event.getPersister(), event.getId(), ChangeType.DELETED, event.getDeletedState(), null,
+                event.getSession());
+    }
+
+    /**
+     * Audits a committed set-based update that bypassed Hibernate, e.g. a job's status transition.
+     * Every row gets the same single-field change, attributed to the system.
+     */
+    public void recordBulkUpdate(Class<?> type, Collection<UUID> ids, String field, Object from, Object to) {
+        if (!enabled || ids.isEmpty()) {
+            return;
+        }
+        try {
+            String changes = objectMapper.writeValueAsString(Map.of(field, new FieldChange(from, to)));
+            Instant now = Instant.now();
+            for (UUID id : ids) {
+                writer.enqueue(new AuditEvent(UuidV7Generator.next(), now, SYSTEM_ACTOR, type.getSimpleName(), id,
+                        ChangeType.UPDATED, changes));
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Failed to audit bulk {} change of {} {}", field, ids.size(), type.getSimpleName(), e);
+        }
+    }
+
+    /**
+     * Audits rows a committed set-based insert wrote past Hibernate, e.g. generated schedule records.
+     * {@code states} maps each new row's id to its field values, keyed like the entity's properties
+     * with associations by id; null values are left out as they are for entity creates.
+     */
+    public void recordBulkInsert(Class<?> type, Map<UUID, Map<String, Object>> states) {
+        if (!enabled || states.isEmpty()) {
+            return;
+        }
+        try {
+            Instant now = Instant.now();
+            for (Map.Entry<UUID, Map<String, Object>> row : states.entrySet()) {
+                Map<String, FieldChange> changes = new LinkedHashMap<>();
+                row.getValue().forEach((field, to) -> {
+                    if (to != null) {
+                        changes.put(field, new FieldChange(null, to));
+                    }
+                });
+                writer.enqueue(new AuditEvent(UuidV7Generator.next(), now, SYSTEM_ACTOR, type.getSimpleName(),
+                        row.getKey(), ChangeType.CREATED, objectMapper.writeValueAsString(changes)));
+            }
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.error("Failed to audit bulk insert of {} {}", states.size(), type.getSimpleName(), e);
+        }
+    }
+
+    // Rolled-back changes never happened — nothing to audit
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private void record(EntityPersister persister, Object id, ChangeType action,
+            Object[] oldState, Object[] newState, SharedSessionContractImplementor session) {
+        if (!requiresPostCommitHandling(persister)) {
+            return;
+        }
+        try {
+            String[] names = persister.getPropertyNames();
+            Map<String, FieldChange> changes = new LinkedHashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                if (IGNORED.contains(names[i])) {
+                    continue;
+                }
+                Object from = oldState != null ? value(oldState[i], session) : null;
+                Object to = newState != null ? value(newState[i], session) : null;
+                boolean unchanged = action == ChangeType.UPDATED
+                        && (oldState == null || oldState[i] == newState[i] || Objects.equals(from, to));
+                if (!unchanged && (from != null || to != null)) {
+                    changes.put(names[i], new FieldChange(from, to));
+                }
+            }
+            if (action == ChangeType.UPDATED && changes.isEmpty()) {
+                return;
+            }
+            writer.enqueue(new AuditEvent(UuidV7Generator.next(), Instant.now(), actor(),
+                    persister.getMappedClass().getSimpleName(), (UUID) id, action,
+                    objectMapper.writeValueAsString(changes)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // The change is committed; failing here would only surface as an error to the client
+            log.error("Failed to audit {} of {} {}", action, persister.getMappedClass().getSimpleName(), id, e);
+        }
+    }
+
+    /** JSON-friendly form of a state value: associations become their id. */
+    private static Object value(Object v, SharedSessionContractImplementor session) {
+        if (v instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+        if (v != null && v.getClass().isAnnotationPresent(Entity.class)) {
+            return session.getFactory().getPersistenceUnitUtil().getIdentifier(v);
+        }
+        if (v instanceof Collection<?> c) {
+            return Hibernate.isInitialized(c) ? new ArrayList<>(c) : null;
+        }
+        return v;
+    }
+
+    private static String actor() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)
+                ? auth.getName()
+                : SYSTEM_ACTOR;
+    }
+
+    record FieldChange(Object from, Object to) {
+    }
+}
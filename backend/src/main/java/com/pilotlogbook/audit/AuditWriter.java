@@ -0,0 +1,232 @@
+package com.pilotlogbook.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write-behind persistence for {@link AuditEvent}s.
+ * Committing threads only enqueue into a bounded buffer; one background thread drains it into
+ * {@code audit_events} with JDBC batches. When the buffer stays full past a short wait, or a
+ * batch fails to insert, events are appended (fsync'd) to a local spill file that is replayed
+ * once the database accepts writes again and on the next startup. Inserts ignore ids that
+ * already exist, so replays are idempotent. Events still in memory are lost only on a hard crash.
+ */
+@Slf4j
+@Component
+public class AuditWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_events (id, occurred_at, actor, entity_type, entity_id, action, changes)
+            VALUES (?, ?, ?, ?, ?, ?, ?::jsonb)
+            ON CONFLICT (id) DO NOTHING
+            """;
+    private static final long REPLAY_BACKOFF_MS = 30_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final BlockingQueue<AuditEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long offerTimeoutMs;
+    private final Path spillPath;
+    private final Path replayPath;
+    private final Object spillLock = new Object();
+    private final Counter written;
+    private final Counter spilled;
+
+    private volatile boolean running;
+    private volatile boolean spillPending;
+    private long nextReplayAt;
+    private Thread thread;
+
+    public AuditWriter(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+            @Value("${app.audit.buffer-capacity:10000}") int bufferCapacity,
+            @Value("${app.audit.batch-size:500}") int batchSize,
+            @Value("${app.audit.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${app.audit.offer-timeout-ms:50}") long offerTimeoutMs,
+            @Value("${app.audit.spill-path:audit-spill.jsonl}") String spillPath) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.offerTimeoutMs = offerTimeoutMs;
+        this.spillPath = Path.of(spillPath).toAbsolutePath();
+        this.replayPath = this.spillPath.resolveSibling(this.spillPath.getFileName() + ".replaying");
+
+        Gauge.builder("app.audit.buffer.size", buffer, BlockingQueue::size).register(meterRegistry);
+        written = Counter.builder("app.audit.events").tag("outcome", "written").register(meterRegistry);
+        spilled = Counter.builder("app.audit.events").tag("outcome", "spilled").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        spillPending = Files.exists(spillPath) || Files.exists(replayPath);
+        running = true;
+        thread = new Thread(this::run, "audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** Drains what is buffered, then spills anything the writer could not finish. */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        thread.join(TimeUnit.SECONDS.toMillis(10));
+        List<AuditEvent> remaining = new ArrayList<>();
+        buffer.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            spill(remaining);
+        }
+    }
+
+    /**
+     * Hands an event to the writer. Waits at most {@code offer-timeout-ms} for buffer space —
+     * the backpressure a burst of commits feels — before falling back to the spill file.
+     */
+    public void enqueue(AuditEvent event) {
+        try {
+            if (buffer.offer(event) || buffer.offer(event, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        spill(List.of(event));
+    }
+
+    // ─── Writer thread ────────────────────────────────────────────────────────
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditEvent first = buffer.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, batchSize - 1);
+                    flush(batch);
+                    batch.clear();
+                }
+                if (spillPending && System.currentTimeMillis() >= nextReplayAt) {
+                    replaySpill();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Audit writer iteration failed", e);
+            }
+        }
+    }
+
+    private void flush(List<AuditEvent> batch) {
+        try {
+            insert(batch);
+            written.increment(batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Failed to write {} audit events, spilling to {}", batch.size(), spillPath, e);
+            spill(batch);
+            nextReplayAt = System.currentTimeMillis() + REPLAY_BACKOFF_MS;
+        }
+    }
+
+    private void insert(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, batchSize, (ps, e) -> {
+            ps.setObject(1, e.id());
+            ps.setTimestamp(2, Timestamp.from(e.occurredAt()));
+            ps.setString(3, e.actor());
+            ps.setString(4, e.entityType());
+            ps.setObject(5, e.entityId());
+            ps.setString(6, e.action().name());
+            ps.setString(7, e.changes());
+        });
+    }
+
+    // ─── Spill file ───────────────────────────────────────────────────────────
+
+    private void spill(List<AuditEvent> events) {
+        try {
+            List<String> lines = new ArrayList<>(events.size());
+            for (AuditEvent e : events) {
+                lines.add(objectMapper.writeValueAsString(e));
+            }
+            synchronized (spillLock) {
+                Files.write(spillPath, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND, StandardOpenOption.DSYNC);
+            }
+            spilled.increment(events.size());
+            spillPending = true;
+        } catch (IOException e) {
+            log.error("Lost {} audit events: cannot write spill file {}", events.size(), spillPath, e);
+        }
+    }
+
+    /**
+     * Moves the spill file aside (so new spills start a fresh file) and inserts its contents.
+     * A leftover {@code .replaying} file from an interrupted replay is retried first.
+     */
+    private void replaySpill() {
+        try {
+            synchronized (spillLock) {
+                if (!Files.exists(replayPath)) {
+                    if (!Files.exists(spillPath)) {
+                        spillPending = false;
+                        return;
+                    }
+                    Files.move(spillPath, replayPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            List<AuditEvent> events = new ArrayList<>();
+            for (String line : Files.readAllLines(replayPath, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    events.add(objectMapper.readValue(line, AuditEvent.class));
+                }
+            }
+            insert(events);
+            Files.delete(replayPath);
+            written.increment(events.size());
+            log.info("Replayed {} spilled audit events", events.size());
+            synchronized (spillLock) {
+                spillPending = Files.exists(spillPath);
+            }
+        } catch (JsonProcessingException e) {
+            Path corrupt = replayPath.resolveSibling(replayPath.getFileName() + ".corrupt");
+            log.error("Spill file {} is corrupt; moving it to {} for manual recovery", replayPath, corrupt, e);
+            try {
+                Files.move(replayPath, corrupt, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException moveFailed) {
+                spillPending = false;
+            }
+        } catch (IOException e) {
+            log.error("Cannot replay audit spill file {}", replayPath, e);
+            nextReplayAt = System.currentTimeMillis() + REPLAY_BACKOFF_MS;
+        } catch (DataAccessException e) {
+            log.warn("Audit spill replay failed, retrying in {} s", REPLAY_BACKOFF_MS / 1000, e);
+            nextReplayAt = System.currentTimeMillis() + REPLAY_BACKOFF_MS;
+        }
+    }
+}
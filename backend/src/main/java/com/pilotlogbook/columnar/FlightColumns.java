@@ -0,0 +1,372 @@
+package com.pilotlogbook.columnar;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Flight logs as parallel primitive columns, about 60 bytes per row including the id index.
+ * Times are stored in tenths of an hour (the precision of the {@code NUMERIC(6,1)} source
+ * columns), dates as epoch days, and pilots, aircraft and models as dense dictionary ids.
+ * Each pilot keeps the list of its row numbers, so per-pilot scans touch only its rows.
+ * <p>
+ * Deleting a row only marks it dead ({@code pilot = -1}); the owning store rebuilds the columns
+ * when too many accumulate. Not thread-safe — guarded by {@link FlightLogColumnStore}.
+ */
+final class FlightColumns {
+
+    static final int TOTAL = 0;
+    static final int PIC = 1;
+    static final int SIC = 2;
+    static final int DUAL = 3;
+    static final int SOLO = 4;
+    static final int NIGHT = 5;
+    static final int IFR = 6;
+    static final int XC = 7;
+    static final int TIME_COLUMNS = 8;
+
+    private static final int DEAD = -1;
+    private static final int NO_ROW = -1;
+    private static final int UNKNOWN_MODEL = -1;
+
+    // ─── Row columns ──────────────────────────────────────────────────────────
+
+    private int size;
+    private int deadRows;
+    private long[] idHi;
+    private long[] idLo;
+    private int[] pilot;
+    private int[] aircraft;
+    private int[] epochDay;
+    private final short[][] tenths = new short[TIME_COLUMNS][];
+    private short[] dayLandings;
+    private short[] nightLandings;
+
+    /** Open-addressing index from flight id to row; holds {@code row + 1}, 0 is an empty slot. */
+    private int[] slots;
+
+    // ─── Dictionaries ─────────────────────────────────────────────────────────
+
+    private final Map<UUID, Integer> pilotIds = new HashMap<>();
+    private int[][] pilotRows = new int[64][];
+    private int[] pilotRowCount = new int[64];
+
+    private final Map<UUID, Integer> aircraftIds = new HashMap<>();
+    private int[] aircraftModel = new int[64];
+
+    private final Map<String, Integer> modelIds = new HashMap<>();
+    private final List<String> modelNames = new ArrayList<>();
+
+    FlightColumns(int expectedRows) {
+        int capacity = Math.max(expectedRows, 1024);
+        idHi = new long[capacity];
+        idLo = new long[capacity];
+        pilot = new int[capacity];
+        aircraft = new int[capacity];
+        epochDay = new int[capacity];
+        for (int t = 0; t < TIME_COLUMNS; t++) {
+            tenths[t] = new short[capacity];
+        }
+        dayLandings = new short[capacity];
+        nightLandings = new short[capacity];
+        slots = new int[tableSize(capacity)];
+        Arrays.fill(aircraftModel, UNKNOWN_MODEL);
+    }
+
+    int size() {
+        return size;
+    }
+
+    int deadRows() {
+        return deadRows;
+    }
+
+    // ─── Writes ───────────────────────────────────────────────────────────────
+
+    void upsert(FlightRow r) {
+        long hi = r.id().getMostSignificantBits();
+        long lo = r.id().getLeastSignificantBits();
+        int p = pilotId(r.pilotId());
+        int row = findRow(hi, lo);
+        if (row == NO_ROW) {
+            row = appendRow(hi, lo);
+            addPilotRow(p, row);
+        } else if (pilot[row] != p) {
+            if (pilot[row] == DEAD) {
+                deadRows--;
+            } else {
+                removePilotRow(pilot[row], row);
+            }
+            addPilotRow(p, row);
+        }
+
+        int a = aircraftId(r.aircraftId());
+        if (r.aircraftModel() != null) {
+            aircraftModel[a] = modelId(r.aircraftModel());
+        }
+        pilot[row] = p;
+        aircraft[row] = a;
+        epochDay[row] = (int) r.date().toEpochDay();
+        tenths[TOTAL][row] = toTenths(r.totalFlightTime());
+        tenths[PIC][row] = toTenths(r.picTime());
+        tenths[SIC][row] = toTenths(r.sicTime());
+        tenths[DUAL][row] = toTenths(r.dualReceivedTime());
+        tenths[SOLO][row] = toTenths(r.soloTime());
+        tenths[NIGHT][row] = toTenths(r.nightTime());
+        tenths[IFR][row] = toTenths(r.ifrTime());
+        tenths[XC][row] = toTenths(r.crossCountryTime());
+        dayLandings[row] = (short) r.dayLandings();
+        nightLandings[row] = (short) r.nightLandings();
+    }
+
+    void delete(UUID id) {
+        int row = findRow(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (row != NO_ROW && pilot[row] != DEAD) {
+            kill(row);
+        }
+    }
+
+    /** Flight logs cascade-delete with their aircraft. */
+    void deleteAircraft(UUID aircraftId) {
+        Integer a = aircraftIds.get(aircraftId);
+        if (a == null) {
+            return;
+        }
+        for (int row = 0; row < size; row++) {
+            if (aircraft[row] == a && pilot[row] != DEAD) {
+                kill(row);
+            }
+        }
+    }
+
+    void setAircraftModel(UUID aircraftId, String model) {
+        aircraftModel[aircraftId(aircraftId)] = modelId(model);
+    }
+
+    // ─── Scans ────────────────────────────────────────────────────────────────
+
+    /**
+     * @param windowStartDays epoch days; {@code windowTotals[i]} receives the tenths flown on or
+     *                        after {@code windowStartDays[i]}
+     * @param totalByModel    tenths per model id, sized {@link #modelCount()}
+     */
+    void sumPilot(UUID pilotId, Accumulator into, int[] windowStartDays, long[] windowTotals, long[] totalByModel) {
+        Integer p = pilotIds.get(pilotId);
+        if (p == null) {
+            return;
+        }
+        int[] rows = pilotRows[p];
+        int count = pilotRowCount[p];
+        short[] total = tenths[TOTAL];
+        for (int i = 0; i < count; i++) {
+            int row = rows[i];
+            into.add(this, row);
+            int t = total[row];
+            int day = epochDay[row];
+            for (int w = 0; w < windowStartDays.length; w++) {
+                if (day >= windowStartDays[w]) {
+                    windowTotals[w] += t;
+                }
+            }
+            int model = aircraftModel[aircraft[row]];
+            if (model != UNKNOWN_MODEL) {
+                totalByModel[model] += t;
+            }
+        }
+    }
+
+    /** Sums every live row dated within {@code [fromDay, toDay]} into the accumulator of its model. */
+    void sumByModel(int fromDay, int toDay, Accumulator[] byModel) {
+        for (int row = 0; row < size; row++) {
+            if (pilot[row] == DEAD || epochDay[row] < fromDay || epochDay[row] > toDay) {
+                continue;
+            }
+            int model = aircraftModel[aircraft[row]];
+            if (model != UNKNOWN_MODEL) {
+                byModel[model].add(this, row);
+            }
+        }
+    }
+
+    int modelCount() {
+        return modelNames.size();
+    }
+
+    String modelName(int model) {
+        return modelNames.get(model);
+    }
+
+    /** Model name → hours, for the non-zero entries of a per-model array of tenths. */
+    Map<String, Double> hoursByModel(long[] totalByModel) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        for (int m = 0; m < modelNames.size(); m++) {
+            if (totalByModel[m] != 0) {
+                result.put(modelNames.get(m), totalByModel[m] / 10.0);
+            }
+        }
+        return result;
+    }
+
+    /** Running sums over rows; times in tenths. */
+    static final class Accumulator {
+        long flights;
+        final long[] tenths = new long[TIME_COLUMNS];
+        long dayLandings;
+        long nightLandings;
+
+        void add(FlightColumns c, int row) {
+            flights++;
+            for (int t = 0; t < TIME_COLUMNS; t++) {
+                tenths[t] += c.tenths[t][row];
+            }
+            dayLandings += c.dayLandings[row];
+            nightLandings += c.nightLandings[row];
+        }
+
+        FlightTotals toTotals() {
+            return new FlightTotals(flights, tenths[TOTAL] / 10.0, tenths[PIC] / 10.0, tenths[SIC] / 10.0,
+                    tenths[DUAL] / 10.0, tenths[SOLO] / 10.0, tenths[NIGHT] / 10.0, tenths[IFR] / 10.0,
+                    tenths[XC] / 10.0, dayLandings, nightLandings);
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private void kill(int row) {
+        removePilotRow(pilot[row], row);
+        pilot[row] = DEAD;
+        deadRows++;
+    }
+
+    private int appendRow(long hi, long lo) {
+        if (size == idHi.length) {
+            grow(size + (size >> 1));
+        }
+        int row = size++;
+        idHi[row] = hi;
+        idLo[row] = lo;
+        if (size * 2 > slots.length) {
+            rehash(tableSize(size));
+        } else {
+            insertSlot(row);
+        }
+        return row;
+    }
+
+    private void grow(int capacity) {
+        idHi = Arrays.copyOf(idHi, capacity);
+        idLo = Arrays.copyOf(idLo, capacity);
+        pilot = Arrays.copyOf(pilot, capacity);
+        aircraft = Arrays.copyOf(aircraft, capacity);
+        epochDay = Arrays.copyOf(epochDay, capacity);
+        for (int t = 0; t < TIME_COLUMNS; t++) {
+            tenths[t] = Arrays.copyOf(tenths[t], capacity);
+        }
+        dayLandings = Arrays.copyOf(dayLandings, capacity);
+        nightLandings = Arrays.copyOf(nightLandings, capacity);
+    }
+
+    private int findRow(long hi, long lo) {
+        int mask = slots.length - 1;
+        for (int i = hash(hi, lo) & mask; slots[i] != 0; i = (i + 1) & mask) {
+            int row = slots[i] - 1;
+            if (idHi[row] == hi && idLo[row] == lo) {
+                return row;
+            }
+        }
+        return NO_ROW;
+    }
+
+    private void insertSlot(int row) {
+        int mask = slots.length - 1;
+        int i = hash(idHi[row], idLo[row]) & mask;
+        while (slots[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        slots[i] = row + 1;
+    }
+
+    private void rehash(int tableSize) {
+        slots = new int[tableSize];
+        for (int row = 0; row < size; row++) {
+            insertSlot(row);
+        }
+    }
+
+    private int pilotId(UUID id) {
+        Integer p = pilotIds.get(id);
+        if (p != null) {
+            return p;
+        }
+        int next = pilotIds.size();
+        if (next == pilotRows.length) {
+            pilotRows = Arrays.copyOf(pilotRows, next * 2);
+            pilotRowCount = Arrays.copyOf(pilotRowCount, next * 2);
+        }
+        pilotRows[next] = new int[16];
+        pilotIds.put(id, next);
+        return next;
+    }
+
+    private int aircraftId(UUID id) {
+        Integer a = aircraftIds.get(id);
+        if (a != null) {
+            return a;
+        }
+        int next = aircraftIds.size();
+        if (next == aircraftModel.length) {
+            aircraftModel = Arrays.copyOf(aircraftModel, next * 2);
+            Arrays.fill(aircraftModel, next, aircraftModel.length, UNKNOWN_MODEL);
+        }
+        aircraftIds.put(id, next);
+        return next;
+    }
+
+    private int modelId(String model) {
+        return modelIds.computeIfAbsent(model, m -> {
+            modelNames.add(m);
+            return modelNames.size() - 1;
+        });
+    }
+
+    private void addPilotRow(int p, int row) {
+        int[] rows = pilotRows[p];
+        int count = pilotRowCount[p];
+        if (count == rows.length) {
+            rows = pilotRows[p] = Arrays.copyOf(rows, count * 2);
+        }
+        rows[count] = row;
+        pilotRowCount[p] = count + 1;
+    }
+
+    private void removePilotRow(int p, int row) {
+        int[] rows = pilotRows[p];
+        int last = pilotRowCount[p] - 1;
+        for (int i = last; i >= 0; i--) {
+            if (rows[i] == row) {
+                rows[i] = rows[last];
+                pilotRowCount[p] = last;
+                return;
+            }
+        }
+    }
+
+    /** Saturates instead of wrapping; no real flight comes near 3276.7 hours. */
+    private static short toTenths(double hours) {
+        long t = Math.round(hours * 10);
+        return (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, t));
+    }
+
+    private static int tableSize(int rows) {
+        return Integer.highestOneBit(Math.max(16, rows * 2 - 1)) << 1;
+    }
+
+    private static int hash(long hi, long lo) {
+        long h = (hi ^ lo) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
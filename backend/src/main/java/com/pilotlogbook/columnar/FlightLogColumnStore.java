@@ -0,0 +1,257 @@
+package com.pilotlogbook.columnar;
+
+import com.pilotlogbook.event.ChangeType;
+import com.pilotlogbook.event.EntityChangedEvent;
+import com.pilotlogbook.model.Aircraft;
+import com.pilotlogbook.model.FlightLogEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-process columnar copy of {@code flight_log_entries} for statistics.
+ * Loaded in the background at startup and kept current from committed {@link EntityChangedEvent}s
+ * (plus explicit removals by archival). Until the first load completes every query returns
+ * empty and callers fall back to the database. Changes that commit while the columns are being
+ * (re)loaded are queued and replayed onto the fresh copy, so a reload never loses a write.
+ * Changes committed by other nodes arrive as invalidations and are re-read row by row.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FlightLogColumnStore {
+
+    private static final String LOAD_SQL = """
+            SELECT id, pilot_id, aircraft_id, date, total_flight_time, pic_time, sic_time, dual_received_time,
+                   solo_time, night_time, ifr_time, cross_country_time, day_landings, night_landings
+            FROM flight_log_entries
+            """;
+    private static final int LOAD_FETCH_SIZE = 10_000;
+    private static final int MIN_ROWS_FOR_COMPACTION = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.columnar.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.columnar.compact-dead-ratio:0.25}")
+    private double compactDeadRatio;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean loading = new AtomicBoolean();
+    private FlightColumns columns;                         // guarded by lock
+    private List<Consumer<FlightColumns>> pendingDuringLoad; // guarded by lock; non-null while loading
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        reloadInBackground();
+    }
+
+    /** Re-reads every flight log into fresh columns, then swaps them in. */
+    public void reload() {
+        if (!loading.compareAndSet(false, true)) {
+            return;
+        }
+        long started = System.nanoTime();
+        write(() -> pendingDuringLoad = new ArrayList<>());
+        try {
+            FlightColumns fresh = load();
+            write(() -> {
+                pendingDuringLoad.forEach(change -> change.accept(fresh));
+                columns = fresh;
+            });
+            log.info("Column store loaded {} flight logs in {} ms",
+                    fresh.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (RuntimeException e) {
+            log.error("Column store load failed", e);
+        } finally {
+            write(() -> pendingDuringLoad = null);
+            loading.set(false);
+        }
+    }
+
+    /** Schedules a full reload unless one is already running. */
+    public void reloadInBackground() {
+        if (!enabled || loading.get()) {
+            return;
+        }
+        Thread t = new Thread(this::reload, "column-store-load");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    // ─── Change feed ──────────────────────────────────────────────────────────
+
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        boolean deleted = event.changeType() == ChangeType.DELETED;
+        if (event.entity() instanceof FlightLogEntry e) {
+            UUID id = e.getId();
+            apply(deleted ? c -> c.delete(id) : upsert(FlightRow.of(e)));
+        } else if (event.entity() instanceof Aircraft a) {
+            UUID id = a.getId();
+            String model = a.getModel();
+            apply(deleted ? c -> c.deleteAircraft(id) : c -> c.setAircraftModel(id, model));
+        }
+    }
+
+    /** Re-reads one flight log changed by another node; drops it when it no longer exists. */
+    public void refreshFlight(UUID flightId) {
+        if (!enabled) {
+            return;
+        }
+        List<FlightRow> rows = jdbcTemplate.query(LOAD_SQL + "WHERE id = ?", (rs, n) -> toRow(rs), flightId);
+        apply(rows.isEmpty() ? c -> c.delete(flightId) : upsert(rows.get(0)));
+    }
+
+    /** Re-reads the model of one aircraft changed by another node; drops its flights when it is gone. */
+    public void refreshAircraft(UUID aircraftId) {
+        if (!enabled) {
+            return;
+        }
+        List<String> models = jdbcTemplate.queryForList("SELECT model FROM aircraft WHERE id = ?", String.class, aircraftId);
+        apply(models.isEmpty() ? c -> c.deleteAircraft(aircraftId) : c -> c.setAircraftModel(aircraftId, models.get(0)));
+    }
+
+    /** Drops rows that left {@code flight_log_entries} without a change event (archival). */
+    public void remove(Collection<UUID> flightIds) {
+        List<UUID> ids = List.copyOf(flightIds);
+        apply(c -> ids.forEach(c::delete));
+    }
+
+    // ─── Queries ──────────────────────────────────────────────────────────────
+
+    /** Empty until the store has loaded; callers then compute from the database. */
+    public Optional<PilotFlightSummary> pilotSummary(UUID pilotId, LocalDate today) {
+        int[] windows = {
+                (int) today.minusDays(30).toEpochDay(),
+                (int) today.minusDays(90).toEpochDay(),
+                (int) today.minusDays(365).toEpochDay()};
+        long[] windowTotals = new long[windows.length];
+        FlightColumns.Accumulator lifetime = new FlightColumns.Accumulator();
+
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                return Optional.empty();
+            }
+            long[] byModel = new long[columns.modelCount()];
+            columns.sumPilot(pilotId, lifetime, windows, windowTotals, byModel);
+            return Optional.of(new PilotFlightSummary(lifetime.toTotals(),
+                    windowTotals[0] / 10.0, windowTotals[1] / 10.0, windowTotals[2] / 10.0,
+                    columns.hoursByModel(byModel)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Totals of flights dated within {@code [from, to]} per aircraft model; empty until loaded. */
+    public Optional<Map<String, FlightTotals>> totalsByModel(LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            if (columns == null) {
+                return Optional.empty();
+            }
+            FlightColumns.Accumulator[] byModel = new FlightColumns.Accumulator[columns.modelCount()];
+            for (int m = 0; m < byModel.length; m++) {
+                byModel[m] = new FlightColumns.Accumulator();
+            }
+            columns.sumByModel((int) from.toEpochDay(), (int) to.toEpochDay(), byModel);
+
+            Map<String, FlightTotals> result = new LinkedHashMap<>();
+            for (int m = 0; m < byModel.length; m++) {
+                if (byModel[m].flights > 0) {
+                    result.put(columns.modelName(m), byModel[m].toTotals());
+                }
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private static Consumer<FlightColumns> upsert(FlightRow row) {
+        return c -> c.upsert(row);
+    }
+
+    private void apply(Consumer<FlightColumns> change) {
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            if (columns != null) {
+                change.accept(columns);
+            }
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(change);
+            }
+            compact = columns != null && columns.size() >= MIN_ROWS_FOR_COMPACTION
+                    && columns.deadRows() > columns.size() * compactDeadRatio;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compact) {
+            reloadInBackground();
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private FlightColumns load() {
+        Long estimate = jdbcTemplate.queryForObject(
+                "SELECT GREATEST(reltuples, 0)::bigint FROM pg_class WHERE oid = 'flight_log_entries'::regclass",
+                Long.class);
+        FlightColumns fresh = new FlightColumns((int) Math.min(Integer.MAX_VALUE / 2, (estimate != null ? estimate : 0) * 9 / 8));
+
+        JdbcTemplate streaming = new JdbcTemplate(jdbcTemplate.getDataSource());
+        streaming.setFetchSize(LOAD_FETCH_SIZE);
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.executeWithoutResult(status -> {
+            streaming.query("SELECT id, model FROM aircraft",
+                    rs -> { fresh.setAircraftModel(rs.getObject(1, UUID.class), rs.getString(2)); });
+            streaming.query(LOAD_SQL, rs -> { fresh.upsert(toRow(rs)); });
+        });
+        return fresh;
+    }
+
+    private static FlightRow toRow(ResultSet rs) throws SQLException {
+        return new FlightRow(
+                rs.getObject(1, UUID.class), rs.getObject(2, UUID.class), rs.getObject(3, UUID.class), null,
+                rs.getObject(4, LocalDate.class), rs.getDouble(5), rs.getDouble(6), rs.getDouble(7),
+                rs.getDouble(8), rs.getDouble(9), rs.getDouble(10), rs.getDouble(11), rs.getDouble(12),
+                rs.getInt(13), rs.getInt(14));
+    }
+}
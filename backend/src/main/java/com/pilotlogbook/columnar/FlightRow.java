@@ -0,0 +1,32 @@
+package com.pilotlogbook.columnar;
+
+import com.pilotlogbook.model.FlightLogEntry;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/** The columns of one flight log entry; {@code aircraftModel} is null when not known. */
+record FlightRow(
+        UUID id,
+        UUID pilotId,
+        UUID aircraftId,
+        String aircraftModel,
+        LocalDate date,
+        double totalFlightTime,
+        double picTime,
+        double sicTime,
+        double dualReceivedTime,
+        double soloTime,
+        double nightTime,
+        double ifrTime,
+        double crossCountryTime,
+        int dayLandings,
+        int nightLandings) {
+
+    static FlightRow of(FlightLogEntry e) {
+        return new FlightRow(e.getId(), e.getPilot().getId(), e.getAircraft().getId(), e.getAircraft().getModel(),
+                e.getDate(), e.getTotalFlightTime(), e.getPicTime(), e.getSicTime(), e.getDualReceivedTime(),
+                e.getSoloTime(), e.getNightTime(), e.getIfrTime(), e.getCrossCountryTime(),
+                e.getDayLandings(), e.getNightLandings());
+    }
+}
@@ -0,0 +1,25 @@
+package com.pilotlogbook.columnar;
+
+/** Summed flight log columns; times in hours. */
+public record FlightTotals(
+        long flights,
+        double totalTime,
+        double picTime,
+        double sicTime,
+        double dualReceivedTime,
+        double soloTime,
+        double nightTime,
+        double ifrTime,
+        double crossCountryTime,
+        long dayLandings,
+        long nightLandings) {
+
+    public static final FlightTotals ZERO = new FlightTotals(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+    public FlightTotals plus(FlightTotals o) {
+        return new FlightTotals(flights + o.flights, totalTime + o.totalTime, picTime + o.picTime,
+                sicTime + o.sicTime, dualReceivedTime + o.dualReceivedTime, soloTime + o.soloTime,
+                nightTime + o.nightTime, ifrTime + o.ifrTime, crossCountryTime + o.crossCountryTime,
+                dayLandings + o.dayLandings, nightLandings + o.nightLandings);
+    }
+}
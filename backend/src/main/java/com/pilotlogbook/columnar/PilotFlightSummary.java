@@ -0,0 +1,15 @@
+package com.pilotlogbook.columnar;
+
+import java.util.Map;
+
+/**
+ * A pilot's hot (non-archived) flights: lifetime totals, recent-currency windows and total
+ * time per aircraft model.
+ */
+public record PilotFlightSummary(
+        FlightTotals lifetime,
+        double last30Days,
+        double last90Days,
+        double lastYear,
+        Map<String, Double> totalTimeByModel) {
+}
@@ -0,0 +1,60 @@
+package com.pilotlogbook.config;
+
+import com.pilotlogbook.datasource.WorkloadRoutingDataSource;
+import com.pilotlogbook.timing.SqlTimingListener;
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import javax.sql.DataSource;
+
+/**
+ * Two isolated Hikari pools behind one routing DataSource.
+ * Everything runs on {@code oltp} unless marked {@code @AnalyticsWorkload}, so long reports
+ * can only exhaust their own pool. Both pools share {@code spring.datasource} connection
+ * settings; pool sizing comes from {@code app.datasource.<pool>.hikari}. Hikari publishes
+ * {@code hikaricp.connections.*} (pending, timeout, usage) tagged by pool name.
+ * The routing DataSource is wrapped in a statement-timing proxy that feeds {@code Server-Timing}.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("app.datasource.oltp.hikari")
+    public HikariDataSource oltpDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("oltp");
+        return ds;
+    }
+
+    @Bean
+    @ConfigurationProperties("app.datasource.analytics.hikari")
+    public HikariDataSource analyticsDataSource(DataSourceProperties properties,
+            @Value("${app.datasource.analytics.statement-timeout-ms:30000}") long statementTimeoutMs,
+            @Value("${app.datasource.analytics.fetch-size:1000}") int fetchSize) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("analytics");
+        ds.setReadOnly(true);
+        ds.addDataSourceProperty("options", "-c statement_timeout=" + statementTimeoutMs);
+        ds.addDataSourceProperty("defaultRowFetchSize", fetchSize);
+        return ds;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("oltpDataSource") DataSource oltp,
+            @Qualifier("analyticsDataSource") DataSource analytics) {
+        WorkloadRoutingDataSource routing = new WorkloadRoutingDataSource(oltp, analytics);
+        routing.afterPropertiesSet(); // not a bean itself, so Spring won't call it
+        return ProxyDataSourceBuilder.create(routing)
+                .name("pilot-logbook")
+                .listener(new SqlTimingListener())
+                .build();
+    }
+}
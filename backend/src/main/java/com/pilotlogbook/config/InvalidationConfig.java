@@ -0,0 +1,28 @@
+package com.pilotlogbook.config;
+
+import com.pilotlogbook.invalidation.InMemoryInvalidationBus;
+import com.pilotlogbook.invalidation.InvalidationBus;
+import com.pilotlogbook.invalidation.PostgresInvalidationBus;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Picks the invalidation transport from {@code app.invalidation.transport} when the context starts.
+ * Not a {@code @ConditionalOnProperty}: the fast-startup build evaluates those once, at build time.
+ */
+@Configuration
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationBus invalidationBus(InvalidationProperties properties, JdbcTemplate jdbcTemplate,
+            DataSourceProperties dataSourceProperties) {
+        return switch (properties.transport()) {
+            case "postgres" -> new PostgresInvalidationBus(jdbcTemplate, dataSourceProperties, properties);
+            case "memory" -> new InMemoryInvalidationBus();
+            default -> throw new IllegalStateException(
+                    "Unknown app.invalidation.transport: " + properties.transport());
+        };
+    }
+}
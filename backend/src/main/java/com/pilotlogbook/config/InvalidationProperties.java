@@ -0,0 +1,22 @@
+package com.pilotlogbook.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Cross-node cache invalidation settings bound from {@code app.invalidation}.
+ *
+ * @param transport          {@code postgres} (LISTEN/NOTIFY between nodes) or {@code memory} (this node only)
+ * @param channel            NOTIFY channel shared by every node of one deployment
+ * @param pollMs             how long the listener waits for notifications per round trip
+ * @param heartbeatMs        idle time after which the listener connection is probed
+ * @param reconnectBackoffMs pause between attempts to re-open a lost listener connection
+ */
+@ConfigurationProperties(prefix = "app.invalidation")
+public record InvalidationProperties(
+        @DefaultValue("postgres") String transport,
+        @DefaultValue("app_invalidation") String channel,
+        @DefaultValue("500") long pollMs,
+        @DefaultValue("30000") long heartbeatMs,
+        @DefaultValue("5000") long reconnectBackoffMs) {
+}
@@ -0,0 +1,64 @@
+package com.pilotlogbook.config;
+
+import com.pilotlogbook.dto.ArchiveRunResponse;
+import com.pilotlogbook.jobs.LeasedJob;
+import com.pilotlogbook.service.ArchiveService;
+import com.pilotlogbook.service.MaintenanceForecastService;
+import com.pilotlogbook.service.MaintenanceStatusService;
+import com.pilotlogbook.service.RefreshTokenService;
+import com.pilotlogbook.service.TokenRevocationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Periodic work, each run on one node at a time via {@code JobScheduler}.
+ * Job names are the {@code job_leases} keys — renaming one starts it over with a fresh schedule.
+ * Switches are checked when a job runs, not with {@code @ConditionalOnProperty}: the fast-startup
+ * build would evaluate those once, at build time.
+ */
+@Configuration
+public class JobsConfig {
+
+    @Bean
+    public LeasedJob maintenanceOverdueJob(MaintenanceStatusService statusService,
+            @Value("${app.jobs.maintenance-overdue.interval-ms:900000}") long intervalMs) {
+        return LeasedJob.every("maintenance-overdue", Duration.ofMillis(intervalMs), statusService::markOverdue);
+    }
+
+    @Bean
+    public LeasedJob refreshTokenCleanupJob(RefreshTokenService refreshTokenService,
+            @Value("${app.jwt.refresh-cleanup-interval-ms:3600000}") long intervalMs) {
+        return LeasedJob.every("refresh-token-cleanup", Duration.ofMillis(intervalMs),
+                context -> refreshTokenService.deleteExpiredTokens());
+    }
+
+    @Bean
+    public LeasedJob revokedTokenCleanupJob(TokenRevocationService tokenRevocationService,
+            @Value("${app.jwt.denylist.cleanup-interval-ms:3600000}") long intervalMs) {
+        return LeasedJob.every("revoked-token-cleanup", Duration.ofMillis(intervalMs),
+                context -> tokenRevocationService.deleteExpired());
+    }
+
+    /** With {@code app.archive.enabled=false} the job keeps its schedule but archives nothing. */
+    @Bean
+    public LeasedJob archiveJob(ArchiveService archiveService,
+            @Value("${app.archive.enabled:true}") boolean enabled,
+            @Value("${app.archive.cron:0 30 3 * * *}") String cron) {
+        return LeasedJob.cron("archive", cron, context -> {
+            if (!enabled) {
+                return 0;
+            }
+            ArchiveRunResponse result = archiveService.run();
+            return result.flightsArchived() + result.maintenanceRecordsArchived();
+        });
+    }
+
+    @Bean
+    public LeasedJob forecastRebuildJob(MaintenanceForecastService forecastService,
+            @Value("${app.forecast.rebuild-cron:0 0 4 * * *}") String cron) {
+        return LeasedJob.cron("forecast-rebuild", cron, context -> forecastService.rebuild());
+    }
+}
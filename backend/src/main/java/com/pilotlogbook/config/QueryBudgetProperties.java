@@ -0,0 +1,19 @@
+package com.pilotlogbook.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Per-request SQL statement limits bound from {@code app.timing.query-budget}.
+ * Endpoint keys are {@code "METHOD /ant/pattern"}; the first matching entry overrides
+ * {@code maxStatements}, and 0 exempts the endpoint from both checks. Violations are logged
+ * and counted, never failed: regressions are caught before release by the query-count test
+ * against {@code src/test/resources/query-budgets.txt}.
+ */
+@ConfigurationProperties(prefix = "app.timing.query-budget")
+public record QueryBudgetProperties(@DefaultValue("50") int maxStatements,
+        @DefaultValue("10") int maxRepeats,
+        Map<String, Integer> endpoints) {
+}
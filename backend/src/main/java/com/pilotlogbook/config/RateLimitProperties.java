@@ -0,0 +1,32 @@
+package com.pilotlogbook.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admission control settings bound from {@code app.rate-limit}.
+ * Endpoint classes are matched in declaration order; the first class with a matching
+ * Ant-style pattern wins.
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public record RateLimitProperties(boolean enabled, Map<String, EndpointClass> classes) {
+
+    /**
+     * @param capacity        burst size of each per-subject token bucket
+     * @param refillPerSecond sustained request rate per subject
+     * @param maxConcurrent   in-flight requests allowed for the whole class on this instance (0 = unlimited)
+     * @param key             what a bucket belongs to; {@code subject} when unset
+     */
+    public record EndpointClass(List<String> patterns, int capacity, double refillPerSecond, int maxConcurrent,
+            Key key) {
+    }
+
+    public enum Key {
+        /** The JWT subject, or the client address for anonymous requests. */
+        SUBJECT,
+        /** The family of the refresh token in the JSON body; the client address when it is unknown. */
+        REFRESH_TOKEN_FAMILY
+    }
+}
@@ -0,0 +1,30 @@
+package com.pilotlogbook.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Request coalescing settings bound from {@code app.single-flight}.
+ * Methods without an entry under {@code methods} are coalesced but never served from a
+ * previous result.
+ */
+@ConfigurationProperties(prefix = "app.single-flight")
+public record SingleFlightProperties(@DefaultValue("true") boolean enabled, Map<String, Method> methods) {
+
+    private static final Method COALESCE_ONLY = new Method(0, 0);
+
+    public Method method(String name) {
+        Method m = methods != null ? methods.get(name) : null;
+        return m != null ? m : COALESCE_ONLY;
+    }
+
+    /**
+     * @param maxAgeMs                 a completed result is returned as-is for this long
+     * @param staleWhileRevalidateMs   after that, it is still returned for this long while one
+     *                                 background call refreshes it
+     */
+    public record Method(long maxAgeMs, long staleWhileRevalidateMs) {
+    }
+}
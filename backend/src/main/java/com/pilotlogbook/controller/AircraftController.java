@@ -1,14 +1,18 @@
 package com.pilotlogbook.controller;
 
 import com.pilotlogbook.dto.*;
+import com.pilotlogbook.model.enums.AircraftCategory;
 import com.pilotlogbook.service.AircraftService;
+import com.pilotlogbook.service.FleetAnalyticsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +22,7 @@ import java.util.UUID;
 public class AircraftController {
 
     private final AircraftService aircraftService;
+    private final FleetAnalyticsService fleetAnalyticsService;
 
     @GetMapping
     public ResponseEntity<List<AircraftResponse>> getAll() {
@@ -58,4 +63,23 @@ public class AircraftController {
     public ResponseEntity<List<MaintenanceAlertResponse>> getAlerts() {
         return ResponseEntity.ok(aircraftService.getMaintenanceAlerts());
     }
+
+    /** Per-aircraft utilization over a date window (defaults to the last 90 days) */
+    @GetMapping("/utilization")
+    @PreAuthorize("hasAnyRole('FLEET_MANAGER', 'ADMIN')")
+    public ResponseEntity<List<AircraftUtilizationResponse>> getUtilization(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) AircraftCategory category) {
+        return ResponseEntity.ok(fleetAnalyticsService.getUtilization(from, to, category));
+    }
+
+    /** Flight totals across the fleet and per aircraft model (defaults to the whole history) */
+    @GetMapping("/flight-totals")
+    @PreAuthorize("hasAnyRole('FLEET_MANAGER', 'ADMIN')")
+    public ResponseEntity<FleetFlightTotalsResponse> getFlightTotals(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(fleetAnalyticsService.getFlightTotals(from, to));
+    }
 }
@@ -0,0 +1,36 @@
+package com.pilotlogbook.controller;
+
+import com.pilotlogbook.dto.AirportMovementResponse;
+import com.pilotlogbook.dto.AirportResponse;
+import com.pilotlogbook.dto.RouteStatsResponse;
+import com.pilotlogbook.service.AirportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/airports")
+@RequiredArgsConstructor
+public class AirportController {
+
+    private final AirportService airportService;
+
+    @GetMapping
+    public ResponseEntity<List<AirportResponse>> getAll() {
+        return ResponseEntity.ok(airportService.getAll());
+    }
+
+    /** Busiest departure → arrival pairs by flight count */
+    @GetMapping("/routes/top")
+    public ResponseEntity<List<RouteStatsResponse>> getTopRoutes(@RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(airportService.getTopRoutes(limit));
+    }
+
+    /** Departures + arrivals per airport, busiest first */
+    @GetMapping("/movements")
+    public ResponseEntity<List<AirportMovementResponse>> getMovements(@RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(airportService.getMovements(limit));
+    }
+}
@@ -0,0 +1,46 @@
+package com.pilotlogbook.controller;
+
+import com.pilotlogbook.dto.ArchiveRunResponse;
+import com.pilotlogbook.dto.ArchivedFlightResponse;
+import com.pilotlogbook.dto.ArchivedMaintenanceResponse;
+import com.pilotlogbook.service.ArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/** Read access to cold storage — paged and slower than the hot endpoints by design. */
+@RestController
+@RequestMapping("/api/archive")
+@RequiredArgsConstructor
+public class ArchiveController {
+
+    private final ArchiveService archiveService;
+
+    @GetMapping("/flights/pilot/{pilotId}")
+    public ResponseEntity<List<ArchivedFlightResponse>> getFlights(@PathVariable UUID pilotId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(archiveService.getFlights(pilotId, from, to, page, size));
+    }
+
+    @GetMapping("/maintenance/aircraft/{aircraftId}")
+    public ResponseEntity<List<ArchivedMaintenanceResponse>> getMaintenance(@PathVariable UUID aircraftId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(archiveService.getMaintenance(aircraftId, page, size));
+    }
+
+    @PostMapping("/run")
+    @PreAuthorize("hasAnyRole('FLEET_MANAGER', 'ADMIN')")
+    public ResponseEntity<ArchiveRunResponse> run() {
+        return ResponseEntity.ok(archiveService.run());
+    }
+}
@@ -0,0 +1,28 @@
+package com.pilotlogbook.controller;
+
+import com.pilotlogbook.dto.AuditEventResponse;
+import com.pilotlogbook.service.AuditTrailService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/audit")
+@RequiredArgsConstructor
+public class AuditController {
+
+    private final AuditTrailService auditTrailService;
+
+    /** Who changed what on an aircraft, flight log or maintenance record. */
+    @GetMapping("/{entityId}")
+    @PreAuthorize("hasAnyRole('FLEET_MANAGER', 'ADMIN')")
+    public ResponseEntity<List<AuditEventResponse>> getHistory(@PathVariable UUID entityId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(auditTrailService.getHistory(entityId, page, size));
+    }
+}
@@ -2,10 +2,13 @@ package com.pilotlogbook.controller;
 
 import com.pilotlogbook.dto.AuthResponse;
 import com.pilotlogbook.dto.LoginRequest;
+import com.pilotlogbook.dto.LogoutRequest;
+import com.pilotlogbook.dto.RefreshRequest;
 import com.pilotlogbook.dto.RegisterRequest;
 import com.pilotlogbook.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,4 +29,20 @@ public class AuthController {
     public ResponseEntity<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         return ResponseEntity.ok(authService.login(request));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshRequest request) {
+        return ResponseEntity.ok(authService.refresh(request));
+    }
+
+    /** Revokes the bearer access token and, when given, the refresh token's family. */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) LogoutRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7) : null;
+        authService.logout(accessToken, request != null ? request.refreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
 }
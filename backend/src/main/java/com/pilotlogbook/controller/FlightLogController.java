@@ -1,16 +1,22 @@
 package com.pilotlogbook.controller;
 
+import com.pilotlogbook.dto.CheckpointVerificationResponse;
 import com.pilotlogbook.dto.FlightLogRequest;
 import com.pilotlogbook.dto.FlightLogResponse;
+import com.pilotlogbook.dto.FlightTotalsResponse;
 import com.pilotlogbook.dto.PilotStatsResponse;
+import com.pilotlogbook.service.FlightDeduplicationService;
 import com.pilotlogbook.service.FlightLogService;
+import com.pilotlogbook.service.LogbookCheckpointService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,6 +26,8 @@ import java.util.UUID;
 public class FlightLogController {
 
     private final FlightLogService flightLogService;
+    private final LogbookCheckpointService checkpointService;
+    private final FlightDeduplicationService deduplicationService;
 
     /** Fleet managers / admins can see all logs */
     @GetMapping
@@ -39,12 +47,17 @@ public class FlightLogController {
         return ResponseEntity.ok(flightLogService.getById(id));
     }
 
-    /** Log a new flight — pilotId comes from the path so it's explicit */
+    /**
+     * Log a new flight — pilotId comes from the path so it's explicit.
+     * Retries carrying the same Idempotency-Key get the original response back.
+     */
     @PostMapping("/pilot/{pilotId}")
     @PreAuthorize("hasAnyRole('PILOT', 'ADMIN')")
     public ResponseEntity<FlightLogResponse> create(@PathVariable UUID pilotId,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
             @Valid @RequestBody FlightLogRequest request) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(flightLogService.create(pilotId, request));
+        return ResponseEntity.status(HttpStatus.CREATED).body(deduplicationService.idempotent(
+                pilotId, idempotencyKey, request, () -> flightLogService.create(pilotId, request)));
     }
 
     @PutMapping("/{id}")
@@ -65,4 +78,19 @@ public class FlightLogController {
     public ResponseEntity<PilotStatsResponse> getPilotStats(@PathVariable UUID pilotId) {
         return ResponseEntity.ok(flightLogService.getPilotStats(pilotId));
     }
+
+    /** Totals between two dates (inclusive) from carried-forward checkpoints */
+    @GetMapping("/pilot/{pilotId}/totals")
+    public ResponseEntity<FlightTotalsResponse> getTotals(@PathVariable UUID pilotId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(checkpointService.getTotals(pilotId, from, to));
+    }
+
+    @PostMapping("/pilot/{pilotId}/checkpoints/verify")
+    @PreAuthorize("hasAnyRole('FLEET_MANAGER', 'ADMIN')")
+    public ResponseEntity<CheckpointVerificationResponse> verifyCheckpoints(@PathVariable UUID pilotId,
+            @RequestParam(defaultValue = "false") boolean repair) {
+        return ResponseEntity.ok(checkpointService.verify(pilotId, repair));
+    }
 }
@@ -1,7 +1,11 @@
 package com.pilotlogbook.controller;
 
+import com.pilotlogbook.dto.MaintenanceForecastResponse;
 import com.pilotlogbook.dto.MaintenanceRequest;
 import com.pilotlogbook.dto.MaintenanceResponse;
+import com.pilotlogbook.dto.ScheduleJobResponse;
+import com.pilotlogbook.service.MaintenanceForecastService;
+import com.pilotlogbook.service.MaintenanceScheduleService;
 import com.pilotlogbook.service.MaintenanceService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +15,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -19,12 +24,37 @@ import java.util.UUID;
 public class MaintenanceController {
 
     private final MaintenanceService maintenanceService;
+    private final MaintenanceForecastService forecastService;
+    private final MaintenanceScheduleService scheduleService;
 
     @GetMapping
     public ResponseEntity<List<MaintenanceResponse>> getAll() {
         return ResponseEntity.ok(maintenanceService.getAll());
     }
 
+    @GetMapping("/forecast")
+    public ResponseEntity<List<MaintenanceForecastResponse>> getForecast() {
+        return ResponseEntity.ok(forecastService.getForecast());
+    }
+
+    @PostMapping("/forecast/rebuild")
+    @PreAuthorize("hasAnyRole('FLEET_MANAGER', 'ADMIN')")
+    public ResponseEntity<Map<String, Integer>> rebuildForecast() {
+        return ResponseEntity.ok(Map.of("aircraft", forecastService.rebuild()));
+    }
+
+    @PostMapping("/schedule/generate")
+    @PreAuthorize("hasAnyRole('FLEET_MANAGER', 'ADMIN')")
+    public ResponseEntity<ScheduleJobResponse> generateSchedule() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(scheduleService.start());
+    }
+
+    @GetMapping("/schedule/jobs/{jobId}")
+    @PreAuthorize("hasAnyRole('FLEET_MANAGER', 'ADMIN')")
+    public ResponseEntity<ScheduleJobResponse> getScheduleJob(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(scheduleService.getJob(jobId));
+    }
+
     @GetMapping("/aircraft/{aircraftId}")
     public ResponseEntity<List<MaintenanceResponse>> getForAircraft(@PathVariable UUID aircraftId) {
         return ResponseEntity.ok(maintenanceService.getForAircraft(aircraftId));
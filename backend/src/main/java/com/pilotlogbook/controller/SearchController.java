@@ -0,0 +1,26 @@
+package com.pilotlogbook.controller;
+
+import com.pilotlogbook.dto.SearchHitResponse;
+import com.pilotlogbook.search.SearchDocumentType;
+import com.pilotlogbook.search.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchIndexService searchIndexService;
+
+    /** Ranked full-text hits over flight remarks and maintenance squawks / notes / technician */
+    @GetMapping
+    public ResponseEntity<List<SearchHitResponse>> search(@RequestParam("q") String query,
+            @RequestParam(required = false) SearchDocumentType type,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchIndexService.search(query, type, limit));
+    }
+}
@@ -0,0 +1,25 @@
+package com.pilotlogbook.controller;
+
+import com.pilotlogbook.dto.SyncResponse;
+import com.pilotlogbook.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /** Upserts and deletions after the client's watermark; start with since=0 for a full load */
+    @GetMapping
+    public ResponseEntity<SyncResponse> changesSince(@RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "500") int limit,
+            @RequestParam(required = false) UUID pilotId) {
+        return ResponseEntity.ok(syncService.changesSince(since, limit, pilotId));
+    }
+}
@@ -0,0 +1,14 @@
+package com.pilotlogbook.datasource;
+
+import java.lang.annotation.*;
+
+/**
+ * Runs the annotated method (or every method of the annotated class) on the analytics pool:
+ * read-only connections with their own size, statement timeout and fetch size.
+ * Has no effect when called inside a transaction that already holds an OLTP connection.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface AnalyticsWorkload {
+}
@@ -0,0 +1,7 @@
+package com.pilotlogbook.datasource;
+
+/** Connection pool a unit of work runs on. */
+public enum Workload {
+    OLTP,
+    ANALYTICS
+}
@@ -0,0 +1,30 @@
+package com.pilotlogbook.datasource;
+
+/** Thread-bound workload consulted by {@link WorkloadRoutingDataSource} when a connection is acquired. */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload w = CURRENT.get();
+        return w != null ? w : Workload.OLTP;
+    }
+
+    /** Switches the current thread to {@code workload} and returns the previous value for {@link #restore}. */
+    public static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
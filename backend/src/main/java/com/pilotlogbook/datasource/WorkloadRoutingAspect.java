@@ -0,0 +1,59 @@
+package com.pilotlogbook.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLException;
+
+/**
+ * Binds {@link AnalyticsWorkload} methods to the analytics pool.
+ * Ordered ahead of the transaction interceptor so the connection is acquired after the switch
+ * (and just inside single-flight coalescing).
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class WorkloadRoutingAspect {
+
+    /** PostgreSQL "query_canceled", raised when statement_timeout fires. */
+    private static final String QUERY_CANCELED = "57014";
+
+    private final Counter statementTimeouts;
+
+    public WorkloadRoutingAspect(MeterRegistry meterRegistry) {
+        this.statementTimeouts = Counter.builder("app.datasource.statement_timeouts")
+                .tag("pool", "analytics")
+                .register(meterRegistry);
+    }
+
+    @Around("@annotation(com.pilotlogbook.datasource.AnalyticsWorkload) "
+            + "|| @within(com.pilotlogbook.datasource.AnalyticsWorkload)")
+    public Object routeToAnalytics(ProceedingJoinPoint joinPoint) throws Throwable {
+        Workload previous = WorkloadContext.enter(Workload.ANALYTICS);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            if (isStatementTimeout(t)) {
+                statementTimeouts.increment();
+            }
+            throw t;
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private static boolean isStatementTimeout(Throwable t) {
+        for (Throwable c = t; c != null; c = c.getCause()) {
+            if (c instanceof SQLException sql && QUERY_CANCELED.equals(sql.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
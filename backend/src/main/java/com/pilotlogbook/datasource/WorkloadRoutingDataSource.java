@@ -0,0 +1,20 @@
+package com.pilotlogbook.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/** Hands out connections from the pool matching the current thread's {@link Workload}. */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+
+    public WorkloadRoutingDataSource(DataSource oltp, DataSource analytics) {
+        setTargetDataSources(Map.of(Workload.OLTP, oltp, Workload.ANALYTICS, analytics));
+        setDefaultTargetDataSource(oltp);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+}
@@ -0,0 +1,20 @@
+package com.pilotlogbook.dto;
+
+import com.pilotlogbook.model.enums.AircraftCategory;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record AircraftUtilizationResponse(
+        UUID aircraftId,
+        String tailNumber,
+        String model,
+        AircraftCategory category,
+        LocalDate windowStart,
+        LocalDate windowEnd,
+        int flightCount,
+        double totalHours,
+        double hoursPerDay,
+        double flightsPerWeek,
+        double averageLegHours) {
+}
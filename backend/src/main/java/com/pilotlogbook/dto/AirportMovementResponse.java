@@ -0,0 +1,8 @@
+package com.pilotlogbook.dto;
+
+public record AirportMovementResponse(
+        String airport,
+        long departures,
+        long arrivals,
+        long totalMovements) {
+}
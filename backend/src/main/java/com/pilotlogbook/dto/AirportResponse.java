@@ -0,0 +1,11 @@
+package com.pilotlogbook.dto;
+
+public record AirportResponse(
+        int id,
+        String code,
+        String name,
+        String city,
+        String country,
+        Double latitude,
+        Double longitude) {
+}
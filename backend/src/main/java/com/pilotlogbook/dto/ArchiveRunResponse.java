@@ -0,0 +1,7 @@
+package com.pilotlogbook.dto;
+
+public record ArchiveRunResponse(
+        long flightsArchived,
+        long maintenanceRecordsArchived,
+        long durationMs) {
+}
@@ -0,0 +1,30 @@
+package com.pilotlogbook.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public record ArchivedFlightResponse(
+        UUID id,
+        UUID pilotId,
+        UUID aircraftId,
+        String tailNumber,
+        String aircraftModel,
+        LocalDate date,
+        String departureAirport,
+        String arrivalAirport,
+        double totalFlightTime,
+        double picTime,
+        double sicTime,
+        double dualReceivedTime,
+        double soloTime,
+        double nightTime,
+        double ifrTime,
+        double crossCountryTime,
+        int dayLandings,
+        int nightLandings,
+        String remarks,
+        List<String> approachTypes,
+        Instant archivedAt) {
+}
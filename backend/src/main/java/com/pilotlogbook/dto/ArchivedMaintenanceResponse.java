@@ -0,0 +1,22 @@
+package com.pilotlogbook.dto;
+
+import com.pilotlogbook.model.enums.MaintenanceCheckType;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ArchivedMaintenanceResponse(
+        UUID id,
+        UUID aircraftId,
+        String tailNumber,
+        MaintenanceCheckType checkType,
+        LocalDate scheduledDate,
+        LocalDate completedDate,
+        double hoursAtCheck,
+        String technician,
+        String squawks,
+        Double cost,
+        String notes,
+        Instant archivedAt) {
+}
@@ -0,0 +1,17 @@
+package com.pilotlogbook.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.pilotlogbook.event.ChangeType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record AuditEventResponse(
+        UUID id,
+        Instant occurredAt,
+        String actor,
+        String entityType,
+        UUID entityId,
+        ChangeType action,
+        @JsonRawValue String changes) {
+}
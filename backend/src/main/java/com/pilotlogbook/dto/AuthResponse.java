@@ -6,6 +6,7 @@ import java.util.UUID;
 
 public record AuthResponse(
         String token,
+        String refreshToken,
         UUID userId,
         String name,
         String email,
@@ -0,0 +1,11 @@
+package com.pilotlogbook.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record CheckpointVerificationResponse(
+        UUID pilotId,
+        int mismatchedDays,
+        LocalDate firstMismatch,
+        boolean repaired) {
+}
@@ -0,0 +1,17 @@
+package com.pilotlogbook.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record FleetFlightTotalsResponse(
+        LocalDate from,
+        LocalDate to,
+        long flights,
+        double totalTime,
+        double picTime,
+        double nightTime,
+        double ifrTime,
+        double crossCountryTime,
+        long landings,
+        List<ModelFlightTotalsResponse> byModel) {
+}
@@ -0,0 +1,21 @@
+package com.pilotlogbook.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record FlightTotalsResponse(
+        UUID pilotId,
+        LocalDate from,
+        LocalDate to,
+        long flights,
+        double totalTime,
+        double picTime,
+        double sicTime,
+        double dualReceived,
+        double soloTime,
+        double nightTime,
+        double ifrTime,
+        double crossCountryTime,
+        long dayLandings,
+        long nightLandings) {
+}
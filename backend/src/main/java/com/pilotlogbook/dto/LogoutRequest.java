@@ -0,0 +1,5 @@
+package com.pilotlogbook.dto;
+
+/** Optional body of {@code POST /api/auth/logout}; the access token comes from the Authorization header. */
+public record LogoutRequest(String refreshToken) {
+}
@@ -3,6 +3,7 @@ package com.pilotlogbook.dto;
 import com.pilotlogbook.model.enums.MaintenanceCheckType;
 import com.pilotlogbook.model.enums.MaintenanceStatus;
 
+import java.time.LocalDate;
 import java.util.UUID;
 
 public record MaintenanceAlertResponse(
@@ -12,5 +13,6 @@ public record MaintenanceAlertResponse(
         MaintenanceStatus status,
         long daysUntilDue,
         double hoursUntilDue,
+        LocalDate projectedDueDate,
         String urgency) {
 }
@@ -0,0 +1,20 @@
+package com.pilotlogbook.dto;
+
+import com.pilotlogbook.model.enums.MaintenanceCheckType;
+import com.pilotlogbook.model.enums.MaintenanceStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record MaintenanceForecastResponse(
+        UUID recordId,
+        UUID aircraftId,
+        String tailNumber,
+        MaintenanceCheckType checkType,
+        MaintenanceStatus status,
+        double hoursRemaining,
+        double hoursPerDay,
+        LocalDate projectedDueDate,
+        LocalDate nextDueDate,
+        LocalDate effectiveDueDate) {
+}
@@ -0,0 +1,12 @@
+package com.pilotlogbook.dto;
+
+public record ModelFlightTotalsResponse(
+        String model,
+        long flights,
+        double totalTime,
+        double picTime,
+        double nightTime,
+        double ifrTime,
+        long landings,
+        double averageFlightTime) {
+}
@@ -0,0 +1,7 @@
+package com.pilotlogbook.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshRequest(
+        @NotBlank String refreshToken) {
+}
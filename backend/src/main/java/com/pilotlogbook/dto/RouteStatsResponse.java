@@ -0,0 +1,8 @@
+package com.pilotlogbook.dto;
+
+public record RouteStatsResponse(
+        String departureAirport,
+        String arrivalAirport,
+        long flightCount,
+        double totalFlightTime) {
+}
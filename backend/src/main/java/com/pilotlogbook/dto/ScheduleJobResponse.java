@@ -0,0 +1,16 @@
+package com.pilotlogbook.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ScheduleJobResponse(
+        UUID jobId,
+        String status,
+        long totalAircraft,
+        long processedAircraft,
+        long recordsCreated,
+        int chunksCompleted,
+        Instant startedAt,
+        Instant finishedAt,
+        String error) {
+}
@@ -0,0 +1,12 @@
+package com.pilotlogbook.dto;
+
+import com.pilotlogbook.search.SearchDocumentType;
+
+import java.util.UUID;
+
+public record SearchHitResponse(
+        UUID id,
+        SearchDocumentType type,
+        UUID aircraftId,
+        float score) {
+}
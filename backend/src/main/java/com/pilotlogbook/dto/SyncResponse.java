@@ -0,0 +1,12 @@
+package com.pilotlogbook.dto;
+
+import java.util.List;
+
+public record SyncResponse(
+        long watermark,
+        boolean hasMore,
+        List<AircraftResponse> aircraft,
+        List<MaintenanceResponse> maintenance,
+        List<FlightLogResponse> flights,
+        List<TombstoneResponse> deleted) {
+}
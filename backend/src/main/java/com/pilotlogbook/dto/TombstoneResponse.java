@@ -0,0 +1,8 @@
+package com.pilotlogbook.dto;
+
+import java.util.UUID;
+
+public record TombstoneResponse(
+        String entityType,
+        UUID id) {
+}
@@ -0,0 +1,7 @@
+package com.pilotlogbook.event;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,9 @@
+package com.pilotlogbook.event;
+
+/**
+ * Published by the service layer for every write to an aggregate entity.
+ * Consumers that keep derived state (search index, caches, …) should listen
+ * with {@code @TransactionalEventListener} so they only see committed changes.
+ */
+public record EntityChangedEvent(Object entity, ChangeType changeType) {
+}
@@ -0,0 +1,9 @@
+package com.pilotlogbook.exception;
+
+/** Thrown when a request conflicts with the current state, e.g. a job that is already running. */
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,9 @@
+package com.pilotlogbook.exception;
+
+/** Thrown when a refresh token is unknown, expired, revoked or replayed, or an access token is forged. */
+public class InvalidTokenException extends RuntimeException {
+
+    public InvalidTokenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,57 @@
+package com.pilotlogbook.invalidation;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/** Subscriber bookkeeping and after-commit local delivery shared by the transports. */
+@Slf4j
+abstract class AbstractInvalidationBus implements InvalidationBus {
+
+    private final List<Consumer<Invalidation>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Invalidation invalidation) {
+        broadcast(invalidation);
+        afterCommit(() -> deliver(invalidation));
+    }
+
+    @Override
+    public void subscribe(Consumer<Invalidation> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Hands {@code invalidation} to the other nodes. Called inside the publishing transaction,
+     * so a transport that can enlist in it only sends on commit.
+     */
+    protected abstract void broadcast(Invalidation invalidation);
+
+    /** Runs {@code action} after the current transaction commits, or right away outside one. */
+    protected static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    protected void deliver(Invalidation invalidation) {
+        for (Consumer<Invalidation> subscriber : subscribers) {
+            try {
+                subscriber.accept(invalidation);
+            } catch (RuntimeException e) {
+                log.warn("Invalidation subscriber failed for {}", invalidation, e);
+            }
+        }
+    }
+}
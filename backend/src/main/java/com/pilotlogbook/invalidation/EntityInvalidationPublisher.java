@@ -0,0 +1,23 @@
+package com.pilotlogbook.invalidation;
+
+import com.pilotlogbook.event.EntityChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns service-layer {@link EntityChangedEvent}s into bus invalidations.
+ * A plain (not transactional) listener: it runs inside the writing transaction, so the bus can
+ * tie the broadcast to that transaction's commit.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityInvalidationPublisher {
+
+    private final InvalidationBus bus;
+
+    @EventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        bus.publish(Invalidation.of(event.entity()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.pilotlogbook.invalidation;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Single-JVM transport for one-node setups and tests.
+ * Buses joined with {@link #connect} act as separate nodes: each sees the others' messages as remote.
+ */
+public class InMemoryInvalidationBus extends AbstractInvalidationBus {
+
+    private final List<InMemoryInvalidationBus> peers = new CopyOnWriteArrayList<>();
+
+    /** Links two buses in both directions. */
+    public void connect(InMemoryInvalidationBus other) {
+        peers.add(other);
+        other.peers.add(this);
+    }
+
+    @Override
+    protected void broadcast(Invalidation invalidation) {
+        if (peers.isEmpty()) {
+            return;
+        }
+        Invalidation remote = invalidation.asRemote();
+        afterCommit(() -> peers.forEach(peer -> peer.deliver(remote)));
+    }
+}
@@ -0,0 +1,80 @@
+package com.pilotlogbook.invalidation;
+
+import com.pilotlogbook.model.Aircraft;
+import com.pilotlogbook.model.FlightLogEntry;
+import com.pilotlogbook.model.MaintenanceRecord;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * "Entity {@code entityType}#{@code entityId} changed — drop anything derived from it."
+ * A removal instead lists rows that are known to be gone, which receivers drop without
+ * re-reading the database.
+ *
+ * @param entityType simple entity class name, or {@link #ALL} when a node may have missed messages
+ * @param ownerId    pilot of a flight log, aircraft of a maintenance record; null otherwise
+ * @param removedIds rows of {@code entityType} deleted in bulk (archival); empty otherwise
+ * @param remote     true when the change was committed by another node
+ */
+public record Invalidation(String entityType, UUID entityId, UUID ownerId, List<UUID> removedIds, boolean remote) {
+
+    public static final String ALL = "*";
+
+    /** Ids per removal message; 36 characters each keeps a NOTIFY payload under its 8000-byte limit. */
+    static final int MAX_REMOVED_IDS = 150;
+
+    public Invalidation {
+        removedIds = removedIds != null ? List.copyOf(removedIds) : List.of();
+    }
+
+    public Invalidation(String entityType, UUID entityId, UUID ownerId, boolean remote) {
+        this(entityType, entityId, ownerId, List.of(), remote);
+    }
+
+    public static Invalidation of(Object entity) {
+        if (entity instanceof Aircraft a) {
+            return new Invalidation(Aircraft.class.getSimpleName(), a.getId(), null, false);
+        } else if (entity instanceof FlightLogEntry e) {
+            return new Invalidation(FlightLogEntry.class.getSimpleName(), e.getId(), e.getPilot().getId(), false);
+        } else if (entity instanceof MaintenanceRecord r) {
+            return new Invalidation(MaintenanceRecord.class.getSimpleName(), r.getId(), r.getAircraft().getId(), false);
+        }
+        throw new IllegalArgumentException("Not an invalidatable entity: " + entity.getClass().getName());
+    }
+
+    /** Removal messages for rows of {@code type} that left their table, split to fit the transports. */
+    public static List<Invalidation> removed(Class<?> type, Collection<UUID> ids) {
+        List<UUID> all = List.copyOf(ids);
+        List<Invalidation> messages = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += MAX_REMOVED_IDS) {
+            List<UUID> chunk = all.subList(from, Math.min(all.size(), from + MAX_REMOVED_IDS));
+            messages.add(new Invalidation(type.getSimpleName(), null, null, chunk, false));
+        }
+        return messages;
+    }
+
+    /** Everything this node derived from the database may be stale. */
+    public static Invalidation everything() {
+        return new Invalidation(ALL, null, null, true);
+    }
+
+    public boolean isEverything() {
+        return ALL.equals(entityType);
+    }
+
+    public boolean isRemoval() {
+        return !removedIds.isEmpty();
+    }
+
+    /** True for invalidations of {@code type} and for {@link #everything()}. */
+    public boolean concerns(Class<?> type) {
+        return isEverything() || type.getSimpleName().equals(entityType);
+    }
+
+    Invalidation asRemote() {
+        return new Invalidation(entityType, entityId, ownerId, removedIds, true);
+    }
+}
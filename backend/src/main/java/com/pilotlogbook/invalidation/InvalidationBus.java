@@ -0,0 +1,23 @@
+package com.pilotlogbook.invalidation;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts entity-level invalidations to every node of the deployment.
+ * Subscribers on the publishing node see the message with {@code remote = false}, all other
+ * nodes with {@code remote = true}. Nothing is delivered for a transaction that rolls back.
+ */
+public interface InvalidationBus {
+
+    /** Delivers {@code invalidation} once the current transaction commits, or right away outside one. */
+    void publish(Invalidation invalidation);
+
+    /** Same as publishing each element; transports may send them in one round trip. */
+    default void publishAll(Collection<Invalidation> invalidations) {
+        invalidations.forEach(this::publish);
+    }
+
+    /** Subscribers run on the bus's delivery thread and must not block for long. */
+    void subscribe(Consumer<Invalidation> subscriber);
+}
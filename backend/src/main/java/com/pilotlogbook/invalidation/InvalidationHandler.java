@@ -0,0 +1,131 @@
+package com.pilotlogbook.invalidation;
+
+import com.pilotlogbook.columnar.FlightLogColumnStore;
+import com.pilotlogbook.model.Aircraft;
+import com.pilotlogbook.model.FlightLogEntry;
+import com.pilotlogbook.model.MaintenanceRecord;
+import com.pilotlogbook.model.RevokedToken;
+import com.pilotlogbook.search.SearchIndexService;
+import com.pilotlogbook.security.TokenDenylist;
+import com.pilotlogbook.service.FlightDeduplicationService;
+import com.pilotlogbook.singleflight.SingleFlightGroup;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Applies bus invalidations to this node's derived state.
+ * Cached fleet statistics are dropped for every change, local or remote. Everything else
+ * (second-level cache, column store, search index, duplicate filters, token denylist) is
+ * already kept current for local writes by the code that made them, so only changes from
+ * other nodes are applied here — by re-reading the affected row, or for a bulk removal by
+ * dropping the listed rows, which are gone anyway.
+ * Never lazy: nothing injects it, and it only starts applying invalidations once subscribed.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class InvalidationHandler {
+
+    private static final List<String> FLEET_STATISTICS = List.of("fleet-stats", "maintenance-alerts");
+
+    private final InvalidationBus bus;
+    private final EntityManagerFactory entityManagerFactory;
+    private final SingleFlightGroup singleFlightGroup;
+    private final FlightLogColumnStore columnStore;
+    private final SearchIndexService searchIndexService;
+    private final FlightDeduplicationService deduplicationService;
+    private final TokenDenylist tokenDenylist;
+
+    private final Map<String, Class<?>> entityClasses = new HashMap<>();
+    private Cache secondLevelCache;
+
+    @PostConstruct
+    void subscribe() {
+        for (EntityType<?> type : entityManagerFactory.getMetamodel().getEntities()) {
+            entityClasses.put(type.getJavaType().getSimpleName(), type.getJavaType());
+        }
+        secondLevelCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        bus.subscribe(this::handle);
+    }
+
+    void handle(Invalidation invalidation) {
+        if (invalidation.concerns(Aircraft.class) || invalidation.concerns(MaintenanceRecord.class)
+                || invalidation.concerns(FlightLogEntry.class)) {
+            FLEET_STATISTICS.forEach(singleFlightGroup::invalidate);
+        }
+        if (!invalidation.remote()) {
+            return;
+        }
+        if (invalidation.isEverything()) {
+            // the search index is left alone: a full rebuild would empty it for minutes
+            secondLevelCache.evictAllRegions();
+            columnStore.reloadInBackground();
+            tokenDenylist.reload();
+            log.info("Dropped second-level cache, reloaded token denylist and reloading column store "
+                    + "after missed invalidations");
+            return;
+        }
+
+        if (invalidation.isRemoval()) {
+            applyRemoval(invalidation);
+            return;
+        }
+
+        evictSecondLevelCache(invalidation);
+        if (invalidation.concerns(FlightLogEntry.class)) {
+            columnStore.refreshFlight(invalidation.entityId());
+            searchIndexService.reindexFlight(invalidation.entityId());
+            if (invalidation.ownerId() != null) {
+                deduplicationService.forget(invalidation.ownerId());
+            }
+        } else if (invalidation.concerns(MaintenanceRecord.class)) {
+            searchIndexService.reindexMaintenance(invalidation.entityId());
+        } else if (invalidation.concerns(Aircraft.class)) {
+            columnStore.refreshAircraft(invalidation.entityId());
+            searchIndexService.removeAircraftIfDeleted(invalidation.entityId());
+        } else if (invalidation.concerns(RevokedToken.class)) {
+            tokenDenylist.refresh(invalidation.entityId());
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    /** Archived rows: one message for a whole batch, applied without a database read. */
+    private void applyRemoval(Invalidation invalidation) {
+        List<UUID> ids = invalidation.removedIds();
+        Class<?> type = entityClasses.get(invalidation.entityType());
+        if (type != null) {
+            ids.forEach(id -> secondLevelCache.evictEntityData(type, id));
+        }
+        if (invalidation.concerns(FlightLogEntry.class)) {
+            columnStore.remove(ids);
+            searchIndexService.remove(ids);
+        } else if (invalidation.concerns(MaintenanceRecord.class)) {
+            searchIndexService.remove(ids);
+        } else {
+            log.warn("Removal for unsupported entity type {}", invalidation.entityType());
+        }
+    }
+
+    private void evictSecondLevelCache(Invalidation invalidation) {
+        Class<?> type = entityClasses.get(invalidation.entityType());
+        if (type == null) {
+            log.warn("Invalidation for unknown entity type {}", invalidation.entityType());
+            return;
+        }
+        secondLevelCache.evictEntityData(type, invalidation.entityId());
+    }
+}
@@ -0,0 +1,170 @@
+package com.pilotlogbook.invalidation;
+
+import com.pilotlogbook.config.InvalidationProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * PostgreSQL {@code LISTEN/NOTIFY} transport.
+ * {@code pg_notify} runs inside the publishing transaction, so PostgreSQL itself delivers the
+ * message on commit and drops it on rollback. Each node listens on one dedicated connection
+ * outside the pools and ignores its own messages. Notifications sent while that connection
+ * was down are lost, so after a reconnect subscribers get {@link Invalidation#everything()}.
+ * Created by {@code InvalidationConfig}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PostgresInvalidationBus extends AbstractInvalidationBus {
+
+    private static final Pattern CHANNEL = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final InvalidationProperties properties;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean running;
+    private Thread listener;
+
+    @PostConstruct
+    void start() {
+        if (!CHANNEL.matcher(properties.channel()).matches()) {
+            throw new IllegalStateException("Invalid app.invalidation.channel: " + properties.channel());
+        }
+        running = true;
+        listener = new Thread(this::listen, "invalidation-listener");
+        listener.setDaemon(true);
+        listener.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        listener.interrupt();
+        listener.join(properties.pollMs() * 2);
+    }
+
+    @Override
+    protected void broadcast(Invalidation invalidation) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> { }, properties.channel(), encode(invalidation));
+    }
+
+    @Override
+    public void publishAll(Collection<Invalidation> invalidations) {
+        if (invalidations.isEmpty()) {
+            return;
+        }
+        String[] payloads = invalidations.stream().map(this::encode).toArray(String[]::new);
+        jdbcTemplate.query("SELECT pg_notify(?, p) FROM unnest(?::text[]) AS p", rs -> { },
+                properties.channel(), payloads);
+        invalidations.forEach(i -> afterCommit(() -> deliver(i)));
+    }
+
+    // ─── Listener ─────────────────────────────────────────────────────────────
+
+    private void listen() {
+        boolean connectedBefore = false;
+        while (running) {
+            try (Connection conn = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement st = conn.createStatement()) {
+                    st.execute("LISTEN " + properties.channel());
+                }
+                if (connectedBefore) {
+                    log.info("Invalidation listener reconnected; invalidating everything");
+                    deliver(Invalidation.everything());
+                }
+                connectedBefore = true;
+                poll(conn);
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Invalidation listener connection lost, retrying in {} ms", properties.reconnectBackoffMs(), e);
+                try {
+                    Thread.sleep(properties.reconnectBackoffMs());
+                } catch (InterruptedException ie) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void poll(Connection conn) throws SQLException {
+        PGConnection pg = conn.unwrap(PGConnection.class);
+        long lastActivity = System.nanoTime();
+        while (running) {
+            PGNotification[] notifications = pg.getNotifications((int) properties.pollMs());
+            long now = System.nanoTime();
+            if (notifications != null && notifications.length > 0) {
+                lastActivity = now;
+                for (PGNotification n : notifications) {
+                    receive(n.getParameter());
+                }
+            } else if (now - lastActivity > properties.heartbeatMs() * 1_000_000) {
+                // an idle socket can die silently; a round trip surfaces it as an SQLException
+                try (Statement st = conn.createStatement()) {
+                    st.execute("SELECT 1");
+                }
+                lastActivity = now;
+            }
+        }
+    }
+
+    private void receive(String payload) {
+        String[] f = payload.split("\\|", -1);
+        if (f.length != 5) {
+            log.warn("Ignoring malformed invalidation '{}'", payload);
+            return;
+        }
+        if (f[0].equals(nodeId)) {
+            return; // delivered locally after commit
+        }
+        Invalidation invalidation;
+        try {
+            invalidation = new Invalidation(f[1], uuidOrNull(f[2]), uuidOrNull(f[3]), uuids(f[4]), true);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed invalidation '{}'", payload);
+            return;
+        }
+        deliver(invalidation);
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    /**
+     * {@code node|type|id|owner|removed,ids} — under the 8000-byte NOTIFY payload limit, since
+     * removals carry at most {@link Invalidation#MAX_REMOVED_IDS} ids.
+     */
+    private String encode(Invalidation i) {
+        return nodeId + '|' + i.entityType() + '|'
+                + (i.entityId() != null ? i.entityId() : "") + '|'
+                + (i.ownerId() != null ? i.ownerId() : "") + '|'
+                + i.removedIds().stream().map(UUID::toString).collect(Collectors.joining(","));
+    }
+
+    private static UUID uuidOrNull(String s) {
+        return s.isEmpty() ? null : UUID.fromString(s);
+    }
+
+    private static List<UUID> uuids(String s) {
+        return s.isEmpty() ? List.of() : Arrays.stream(s.split(",")).map(UUID::fromString).toList();
+    }
+}
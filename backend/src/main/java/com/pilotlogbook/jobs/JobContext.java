@@ -0,0 +1,30 @@
+package com.pilotlogbook.jobs;
+
+import java.util.concurrent.TimeUnit;
+
+/** Handed to a running {@link LeasedJob.Task}. */
+public final class JobContext {
+
+    private volatile boolean leaseHeld = true;
+    private volatile long renewedAt = System.nanoTime();
+
+    /**
+     * False once a renewal failed — the lease may already belong to another node.
+     * Jobs that work in batches should stop before starting the next one.
+     */
+    public boolean leaseHeld() {
+        return leaseHeld;
+    }
+
+    void leaseLost() {
+        leaseHeld = false;
+    }
+
+    void renewed() {
+        renewedAt = System.nanoTime();
+    }
+
+    long sinceRenewalMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - renewedAt);
+    }
+}
@@ -0,0 +1,207 @@
+package com.pilotlogbook.jobs;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs {@link LeasedJob}s on exactly one node per scheduled time.
+ * Every node polls {@code job_leases}; the first to flip a due, unleased row to itself runs the
+ * job and renews the lease every third of its duration. When the holder dies the lease runs out
+ * and the next node to poll takes over, marking the dead run ABANDONED. Lease expiry is judged by
+ * the database clock; only the schedule itself uses this node's clock.
+ * Never lazy: nothing injects it, and a lazy bean's {@code @Scheduled} poll is never registered.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class JobScheduler {
+
+    private static final String REGISTER_SQL =
+            "INSERT INTO job_leases (job_name, next_run_at) VALUES (?, ?) ON CONFLICT (job_name) DO NOTHING";
+    private static final String ACQUIRE_SQL = """
+            UPDATE job_leases SET owner = ?, lease_until = now() + make_interval(secs => ?)
+            WHERE job_name = ? AND next_run_at <= now() AND lease_until < now()
+            """;
+    private static final String RENEW_SQL =
+            "UPDATE job_leases SET lease_until = now() + make_interval(secs => ?) WHERE job_name = ? AND owner = ?";
+    private static final String RELEASE_SQL = """
+            UPDATE job_leases SET owner = NULL, lease_until = '-infinity', next_run_at = ?
+            WHERE job_name = ? AND owner = ?
+            """;
+    private static final String ABANDON_SQL =
+            "UPDATE job_runs SET status = 'ABANDONED', finished_at = now() WHERE job_name = ? AND status = 'RUNNING'";
+    private static final String START_RUN_SQL =
+            "INSERT INTO job_runs (job_name, owner, status) VALUES (?, ?, 'RUNNING') RETURNING id";
+    private static final String FINISH_RUN_SQL = """
+            UPDATE job_runs SET status = ?, finished_at = now(), rows_affected = ?, error = ?
+            WHERE id = ? AND status = 'RUNNING'
+            """;
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectProvider<LeasedJob> jobProvider;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.jobs.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.jobs.lease-ms:60000}")
+    private long leaseMs;
+
+    private final String owner = ManagementFactory.getRuntimeMXBean().getName()
+            + '/' + Integer.toHexString(ThreadLocalRandom.current().nextInt());
+    private final Map<String, JobContext> running = new ConcurrentHashMap<>();
+    private List<LeasedJob> jobs = List.of();
+    private ExecutorService runners;
+    private ScheduledExecutorService renewer;
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            return;
+        }
+        jobs = jobProvider.orderedStream().toList();
+        Instant now = Instant.now();
+        for (LeasedJob job : jobs) {
+            jdbcTemplate.update(REGISTER_SQL, job.name(), Timestamp.from(job.schedule().first().apply(now)));
+        }
+
+        AtomicInteger threads = new AtomicInteger();
+        runners = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "leased-job-" + threads.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "leased-job-renewer");
+            t.setDaemon(true);
+            return t;
+        });
+        long renewEvery = Math.max(1000, leaseMs / 3);
+        renewer.scheduleWithFixedDelay(this::renewLeases, renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+        log.info("Job scheduler started as {} with {} jobs", owner, jobs.size());
+    }
+
+    /** In-flight runs are interrupted; their leases run out and another node picks the jobs up. */
+    @PreDestroy
+    void stop() {
+        if (runners != null) {
+            renewer.shutdownNow();
+            runners.shutdownNow();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jobs.poll-interval-ms:10000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        for (LeasedJob job : jobs) {
+            if (running.containsKey(job.name())) {
+                continue;
+            }
+            try {
+                if (jdbcTemplate.update(ACQUIRE_SQL, owner, leaseMs / 1000.0, job.name()) == 1) {
+                    launch(job);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not poll lease for job {}", job.name(), e);
+            }
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private void launch(LeasedJob job) {
+        int abandoned = jdbcTemplate.update(ABANDON_SQL, job.name());
+        if (abandoned > 0) {
+            log.warn("Took over job {} from an expired lease ({} run(s) abandoned)", job.name(), abandoned);
+        }
+        UUID runId = jdbcTemplate.queryForObject(START_RUN_SQL, UUID.class, job.name(), owner);
+        JobContext context = new JobContext();
+        running.put(job.name(), context);
+        runners.execute(() -> run(job, runId, context));
+    }
+
+    private void run(LeasedJob job, UUID runId, JobContext context) {
+        long started = System.nanoTime();
+        String status = "SUCCEEDED";
+        Long affected = null;
+        String error = null;
+        try {
+            affected = job.task().run(context);
+            log.info("Job {} finished: {} affected in {} ms", job.name(), affected,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (Throwable t) {
+            // Errors too, or the run would be recorded as SUCCEEDED; they still propagate once recorded
+            status = "FAILED";
+            error = t.toString();
+            error = error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+            log.error("Job {} failed", job.name(), t);
+            throw t;
+        } finally {
+            Timer.builder("app.jobs.runs")
+                    .tag("job", job.name())
+                    .tag("outcome", status.toLowerCase(Locale.ROOT))
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            try {
+                jdbcTemplate.update(FINISH_RUN_SQL, status, affected, error, runId);
+                jdbcTemplate.update(RELEASE_SQL,
+                        Timestamp.from(job.schedule().next().apply(Instant.now())), job.name(), owner);
+            } catch (DataAccessException e) {
+                log.warn("Could not record the end of job {}; its lease will expire", job.name(), e);
+            } finally {
+                running.remove(job.name());
+            }
+        }
+    }
+
+    private void renewLeases() {
+        running.forEach((name, context) -> {
+            if (!context.leaseHeld()) {
+                return;
+            }
+            try {
+                if (jdbcTemplate.update(RENEW_SQL, leaseMs / 1000.0, name, owner) == 0) {
+                    context.leaseLost();
+                    log.warn("Lost the lease on job {} while it was running", name);
+                } else {
+                    context.renewed();
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not renew the lease on job {}", name, e);
+                if (context.sinceRenewalMs() >= leaseMs) {
+                    context.leaseLost(); // expired by now, whether or not the database noticed
+                }
+            }
+        });
+    }
+}
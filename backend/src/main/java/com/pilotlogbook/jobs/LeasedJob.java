@@ -0,0 +1,42 @@
+package com.pilotlogbook.jobs;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.function.UnaryOperator;
+
+/**
+ * Periodic work that runs on exactly one node per scheduled time.
+ * Declare as a bean; {@link JobScheduler} picks up every one.
+ *
+ * @param name unique across the deployment — it is the {@code job_leases} key
+ */
+public record LeasedJob(String name, Schedule schedule, Task task) {
+
+    /** First run right after the job is first registered, then {@code interval} after each run finishes. */
+    public static LeasedJob every(String name, Duration interval, Task task) {
+        return new LeasedJob(name, new Schedule(now -> now, finished -> finished.plus(interval)), task);
+    }
+
+    /** Runs at the times of a Spring cron expression, in the server's time zone. */
+    public static LeasedJob cron(String name, String expression, Task task) {
+        CronExpression cron = CronExpression.parse(expression);
+        UnaryOperator<Instant> next = from -> cron.next(from.atZone(ZoneId.systemDefault())).toInstant();
+        return new LeasedJob(name, new Schedule(next, next), task);
+    }
+
+    /**
+     * @param first when a newly registered job first becomes due
+     * @param next  when the job becomes due again after a run finished (successfully or not)
+     */
+    public record Schedule(UnaryOperator<Instant> first, UnaryOperator<Instant> next) {
+    }
+
+    @FunctionalInterface
+    public interface Task {
+        /** @return rows (or items) affected, recorded in the run history */
+        long run(JobContext context);
+    }
+}
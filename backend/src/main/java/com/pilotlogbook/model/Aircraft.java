@@ -2,8 +2,11 @@ package com.pilotlogbook.model;
 
 import com.pilotlogbook.model.enums.AircraftCategory;
 import com.pilotlogbook.model.enums.AircraftStatus;
+import com.pilotlogbook.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -12,6 +15,8 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "aircraft")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "aircraft")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -20,7 +25,7 @@ import java.util.UUID;
 public class Aircraft {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -60,6 +65,10 @@ public class Aircraft {
     @Column(name = "image_url")
     private String imageUrl;
 
+    /** Assigned by the database on every insert/update; drives delta sync. */
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
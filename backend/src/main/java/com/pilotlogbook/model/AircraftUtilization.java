@@ -0,0 +1,34 @@
+package com.pilotlogbook.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Exponentially weighted daily utilization of one aircraft, valid as of {@link #asOf}.
+ * Maintained incrementally from flight log writes by {@code MaintenanceForecastService}.
+ */
+@Entity
+@Table(name = "aircraft_utilization")
+@Getter
+@NoArgsConstructor
+public class AircraftUtilization {
+
+    @Id
+    @Column(name = "aircraft_id", updatable = false, nullable = false)
+    private UUID aircraftId;
+
+    @Column(name = "hours_per_day", nullable = false)
+    private double hoursPerDay;
+
+    @Column(name = "as_of", nullable = false)
+    private LocalDate asOf;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.pilotlogbook.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "airports")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Airport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(updatable = false, nullable = false)
+    private Integer id;
+
+    @Column(nullable = false, unique = true)
+    private String code;
+
+    private String name;
+
+    private String city;
+
+    private String country;
+
+    private Double latitude;
+
+    private Double longitude;
+}
@@ -2,6 +2,7 @@ package com.pilotlogbook.model;
 
 import com.pilotlogbook.model.enums.FlightRule;
 import com.pilotlogbook.model.enums.WeatherCondition;
+import com.pilotlogbook.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -22,7 +23,7 @@ import java.util.UUID;
 public class FlightLogEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -37,11 +38,11 @@ public class FlightLogEntry {
     @Column(nullable = false)
     private LocalDate date;
 
-    @Column(name = "departure_airport", nullable = false)
-    private String departureAirport;
+    @Column(name = "departure_airport_id", nullable = false)
+    private int departureAirportId;
 
-    @Column(name = "arrival_airport", nullable = false)
-    private String arrivalAirport;
+    @Column(name = "arrival_airport_id", nullable = false)
+    private int arrivalAirportId;
 
     @Column(name = "total_flight_time", nullable = false)
     private double totalFlightTime;
@@ -92,6 +93,18 @@ public class FlightLogEntry {
     @Column(name = "simulator_time")
     private Double simulatorTime;
 
+    /** SHA-256 of the natural key; unique, so double submissions can't create a second row. */
+    @Column(name = "fingerprint")
+    private byte[] fingerprint;
+
+    /** Set on rows that already duplicated another before fingerprints existed; exempt from uniqueness. */
+    @Column(name = "legacy_duplicate", nullable = false)
+    private boolean legacyDuplicate;
+
+    /** Assigned by the database on every insert/update; drives delta sync. */
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
@@ -2,6 +2,7 @@ package com.pilotlogbook.model;
 
 import com.pilotlogbook.model.enums.MaintenanceCheckType;
 import com.pilotlogbook.model.enums.MaintenanceStatus;
+import com.pilotlogbook.model.id.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -21,7 +22,7 @@ import java.util.UUID;
 public class MaintenanceRecord {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(updatable = false, nullable = false)
     private UUID id;
 
@@ -62,6 +63,10 @@ public class MaintenanceRecord {
     @Column(columnDefinition = "TEXT")
     private String notes;
 
+    /** Assigned by the database on every insert/update; drives delta sync. */
+    @Column(name = "change_seq", insertable = false, updatable = false)
+    private Long changeSeq;
+
     @CreationTimestamp
     @Column(name = "created_at", updatable = false)
     private Instant createdAt;
@@ -0,0 +1,33 @@
+package com.pilotlogbook.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** An access token revoked before its expiry, identified by its {@code jti} claim. */
+@Entity
+@Table(name = "revoked_tokens")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RevokedToken {
+
+    @Id
+    @Column(updatable = false, nullable = false)
+    private UUID jti;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "revoked_at", updatable = false)
+    private Instant revokedAt;
+}
@@ -0,0 +1,21 @@
+package com.pilotlogbook.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.*;
+
+import java.io.Serializable;
+
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class RouteKey implements Serializable {
+
+    @Column(name = "departure_airport_id", nullable = false)
+    private int departureAirportId;
+
+    @Column(name = "arrival_airport_id", nullable = false)
+    private int arrivalAirportId;
+}
@@ -0,0 +1,24 @@
+package com.pilotlogbook.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Incrementally maintained counter row per (departure, arrival) airport pair.
+ * Written only through {@code RouteStatRepository.increment}.
+ */
+@Entity
+@Table(name = "route_stats")
+@Getter
+@NoArgsConstructor
+public class RouteStat {
+
+    @EmbeddedId
+    private RouteKey id;
+
+    @Column(name = "flight_count", nullable = false)
+    private long flightCount;
+
+    @Column(name = "total_flight_time", nullable = false)
+    private double totalFlightTime;
+}
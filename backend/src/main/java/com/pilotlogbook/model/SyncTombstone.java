@@ -0,0 +1,28 @@
+package com.pilotlogbook.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Written by database triggers when a synced row is deleted; read-only from the application. */
+@Entity
+@Table(name = "sync_tombstones")
+@Getter
+@NoArgsConstructor
+public class SyncTombstone {
+
+    @Id
+    @Column(name = "change_seq", updatable = false, nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+}
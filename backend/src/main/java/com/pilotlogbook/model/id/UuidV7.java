@@ -0,0 +1,18 @@
+package com.pilotlogbook.model.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates a time-ordered UUIDv7 (RFC 9562) identifier on insert.
+ * Consecutive inserts land on the right-most page of the primary key index instead of a random one.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UuidV7 {
+}
@@ -0,0 +1,44 @@
+package com.pilotlogbook.model.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * UUIDv7: 48-bit Unix millisecond timestamp, 12-bit sub-millisecond counter, 62 random bits.
+ * The counter (RFC 9562 §6.2, method 1) keeps ids strictly increasing within this JVM even when
+ * many are generated in the same millisecond or the wall clock steps backwards.
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** Last issued (timestamp << 12 | counter). */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    public static UUID next() {
+        long candidate = System.currentTimeMillis() << 12;
+        long stamp = LAST.updateAndGet(prev -> Math.max(prev + 1, candidate));
+
+        long msb = ((stamp >>> 12) << 16) | 0x7000L | (stamp & 0xFFFL);
+        long lsb = (RANDOM.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
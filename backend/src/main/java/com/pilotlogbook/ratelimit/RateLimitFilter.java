@@ -0,0 +1,251 @@
+package com.pilotlogbook.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pilotlogbook.config.RateLimitProperties;
+import com.pilotlogbook.exception.GlobalExceptionHandler.ErrorResponse;
+import com.pilotlogbook.service.RefreshTokenService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-subject, per-endpoint-class admission control.
+ * Runs after {@code JwtAuthenticationFilter} so requests are keyed by the JWT subject;
+ * anonymous requests (login, register) are keyed by client address — the real client's only when
+ * {@code server.forward-headers-strategy} lets the load balancer's {@code X-Forwarded-For} through.
+ * Token refreshes are keyed by refresh-token family, so clients behind one NAT don't share a bucket.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final int MAX_KEYED_BODY_BYTES = 4096;
+
+    private final RateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final RefreshTokenService refreshTokenService;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<LimitedClass> classes = new ArrayList<>();
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper,
+            RefreshTokenService refreshTokenService, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.refreshTokenService = refreshTokenService;
+
+        if (properties.classes() != null) {
+            properties.classes().forEach((name, config) -> {
+                Semaphore permits = config.maxConcurrent() > 0 ? new Semaphore(config.maxConcurrent()) : null;
+                classes.add(new LimitedClass(name, config, permits,
+                        rejectionCounter(meterRegistry, name, "rate"),
+                        rejectionCounter(meterRegistry, name, "concurrency")));
+                if (permits != null) {
+                    Gauge.builder("app.ratelimit.in_flight", permits, p -> config.maxConcurrent() - p.availablePermits())
+                            .tag("class", name)
+                            .register(meterRegistry);
+                }
+            });
+        }
+        Gauge.builder("app.ratelimit.buckets", buckets, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.enabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        LimitedClass limited = classify(request.getRequestURI());
+        if (limited == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest admitted = request;
+        String subject = subject(request);
+        if (limited.config().key() == RateLimitProperties.Key.REFRESH_TOKEN_FAMILY) {
+            CachedBodyRequest cached = new CachedBodyRequest(request);
+            subject = refreshTokenFamily(cached.head).orElse(subject);
+            admitted = cached;
+        }
+        String key = limited.name() + '|' + subject;
+        TokenBucket bucket = buckets.computeIfAbsent(key,
+                k -> new TokenBucket(limited.config().capacity(), limited.config().refillPerSecond()));
+        long waitNanos = bucket.tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            limited.rateRejections().increment();
+            reject(response, Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+            return;
+        }
+
+        Semaphore permits = limited.permits();
+        if (permits == null) {
+            filterChain.doFilter(admitted, response);
+            return;
+        }
+        if (!permits.tryAcquire()) {
+            limited.concurrencyRejections().increment();
+            reject(response, 1);
+            return;
+        }
+        try {
+            filterChain.doFilter(admitted, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /** Drops buckets that have refilled completely — they hold no information. */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(b -> b.isFull(now));
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private LimitedClass classify(String path) {
+        for (LimitedClass c : classes) {
+            List<String> patterns = c.config().patterns();
+            if (patterns == null) {
+                continue;
+            }
+            for (String pattern : patterns) {
+                if (pathMatcher.match(pattern, path)) {
+                    return c;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String subject(HttpServletRequest request) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth != null && auth.isAuthenticated() && !(auth instanceof AnonymousAuthenticationToken)) {
+            return "sub:" + auth.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /** {@code family:<id>} for a known {@code refreshToken} in a JSON body; empty otherwise. */
+    private Optional<String> refreshTokenFamily(byte[] body) {
+        try {
+            String token = objectMapper.readTree(body).path("refreshToken").asText("");
+            return token.isEmpty()
+                    ? Optional.empty()
+                    : refreshTokenService.familyOf(token).map(family -> "family:" + family);
+        } catch (IOException e) {
+            return Optional.empty(); // the controller rejects it
+        }
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests", Instant.now()));
+    }
+
+    private static Counter rejectionCounter(MeterRegistry registry, String className, String reason) {
+        return Counter.builder("app.ratelimit.rejections")
+                .tag("class", className)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    /** Reads the start of the body up front so it can be keyed on, then replays it to the handler. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] head;
+        private final InputStream body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            InputStream original = request.getInputStream();
+            head = original.readNBytes(MAX_KEYED_BODY_BYTES);
+            body = new SequenceInputStream(new ByteArrayInputStream(head), original);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return new ServletInputStream() {
+                @Override
+                public int read() throws IOException {
+                    return body.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    return body.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return false;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+
+    private record LimitedClass(String name,
+            RateLimitProperties.EndpointClass config,
+            Semaphore permits,
+            Counter rateRejections,
+            Counter concurrencyRejections) {
+    }
+}
@@ -1,8 +1,12 @@
 package com.pilotlogbook.repository;
 
 import com.pilotlogbook.model.Aircraft;
+import com.pilotlogbook.model.enums.AircraftCategory;
 import com.pilotlogbook.model.enums.AircraftStatus;
+import com.pilotlogbook.repository.projection.AircraftStatusTotalsRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +18,12 @@ public interface AircraftRepository extends JpaRepository<Aircraft, UUID> {
     List<Aircraft> findByStatus(AircraftStatus status);
 
     List<Aircraft> findByOwnerId(UUID ownerId);
+
+    List<Aircraft> findByCategory(AircraftCategory category);
+
+    List<Aircraft> findByChangeSeqGreaterThanOrderByChangeSeqAsc(long changeSeq, Pageable pageable);
+
+    @Query("SELECT new com.pilotlogbook.repository.projection.AircraftStatusTotalsRow("
+            + "a.status, COUNT(a), COALESCE(SUM(a.totalAirframeHours), 0.0)) FROM Aircraft a GROUP BY a.status")
+    List<AircraftStatusTotalsRow> totalsByStatus();
 }
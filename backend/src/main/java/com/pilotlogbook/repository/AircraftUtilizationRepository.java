@@ -0,0 +1,61 @@
+package com.pilotlogbook.repository;
+
+import com.pilotlogbook.model.AircraftUtilization;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface AircraftUtilizationRepository extends JpaRepository<AircraftUtilization, UUID> {
+
+    /**
+     * Adds one flight's weighted contribution (negative to remove it) to the aircraft's EWMA.
+     * The average is linear in its daily samples, so out-of-order and removed flights are exact:
+     * a sample on day d contributes {@code contribution · decay^(asOf − d)}. A removal must pass
+     * the date its flight was added with; {@code FlightLogService} rejects flights dated more
+     * than a day ahead, so {@code as_of} can't run ahead and decay the real history.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO aircraft_utilization (aircraft_id, hours_per_day, as_of) "
+            + "VALUES (:aircraftId, :contribution, :date) "
+            + "ON CONFLICT (aircraft_id) DO UPDATE SET "
+            + "hours_per_day = CASE WHEN EXCLUDED.as_of > aircraft_utilization.as_of "
+            + "  THEN aircraft_utilization.hours_per_day * power(:decay, EXCLUDED.as_of - aircraft_utilization.as_of) "
+            + "       + EXCLUDED.hours_per_day "
+            + "  ELSE aircraft_utilization.hours_per_day "
+            + "       + EXCLUDED.hours_per_day * power(:decay, aircraft_utilization.as_of - EXCLUDED.as_of) END, "
+            + "as_of = GREATEST(aircraft_utilization.as_of, EXCLUDED.as_of), "
+            + "updated_at = NOW()",
+            nativeQuery = true)
+    void applySample(@Param("aircraftId") UUID aircraftId,
+            @Param("date") LocalDate date,
+            @Param("contribution") double contribution,
+            @Param("decay") double decay);
+
+    /** Recomputes every aircraft's EWMA from its full flight history (admin repair only). */
+    @Modifying
+    @Query(value = "INSERT INTO aircraft_utilization (aircraft_id, hours_per_day, as_of) "
+            + "SELECT f.aircraft_id, "
+            + "       :alpha * SUM(f.total_flight_time::float8 "
+            + "           * power(0.5::float8, (m.last_date - f.date) / :halfLifeDays)), "
+            + "       m.last_date "
+            + "FROM flight_log_entries f "
+            + "JOIN (SELECT aircraft_id, MAX(date) AS last_date "
+            + "      FROM flight_log_entries GROUP BY aircraft_id) m "
+            + "  ON m.aircraft_id = f.aircraft_id "
+            + "GROUP BY f.aircraft_id, m.last_date "
+            + "ON CONFLICT (aircraft_id) DO UPDATE SET hours_per_day = EXCLUDED.hours_per_day, "
+            + "as_of = EXCLUDED.as_of, updated_at = NOW()",
+            nativeQuery = true)
+    int rebuildFromHistory(@Param("alpha") double alpha, @Param("halfLifeDays") double halfLifeDays);
+
+    /** Drops rates of aircraft whose flights are all gone (deleted or archived). */
+    @Modifying
+    @Query(value = "DELETE FROM aircraft_utilization u "
+            + "WHERE NOT EXISTS (SELECT 1 FROM flight_log_entries f WHERE f.aircraft_id = u.aircraft_id)",
+            nativeQuery = true)
+    int deleteWithoutFlights();
+}
@@ -0,0 +1,11 @@
+package com.pilotlogbook.repository;
+
+import com.pilotlogbook.model.Airport;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface AirportRepository extends JpaRepository<Airport, Integer> {
+
+    Optional<Airport> findByCode(String code);
+}
@@ -1,13 +1,23 @@
 package com.pilotlogbook.repository;
 
 import com.pilotlogbook.model.FlightLogEntry;
+import com.pilotlogbook.model.enums.AircraftCategory;
+import com.pilotlogbook.repository.projection.FlightRemarksRow;
+import com.pilotlogbook.repository.projection.ModelFlightTotalsRow;
+import com.pilotlogbook.repository.projection.UtilizationSample;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface FlightLogEntryRepository extends JpaRepository<FlightLogEntry, UUID> {
 
@@ -15,9 +25,46 @@ public interface FlightLogEntryRepository extends JpaRepository<FlightLogEntry,
 
     List<FlightLogEntry> findByAircraftIdOrderByDateDesc(UUID aircraftId);
 
+    List<FlightLogEntry> findByChangeSeqGreaterThanOrderByChangeSeqAsc(long changeSeq, Pageable pageable);
+
+    List<FlightLogEntry> findByPilotIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(UUID pilotId, long changeSeq,
+            Pageable pageable);
+
+    Optional<FlightLogEntry> findByFingerprintAndLegacyDuplicateFalse(byte[] fingerprint);
+
+    @Query("SELECT f.fingerprint FROM FlightLogEntry f WHERE f.pilot.id = :pilotId AND f.fingerprint IS NOT NULL")
+    List<byte[]> findFingerprintsByPilotId(@Param("pilotId") UUID pilotId);
+
     @Query("SELECT f FROM FlightLogEntry f WHERE f.pilot.id = :pilotId AND f.date >= :from ORDER BY f.date DESC")
     List<FlightLogEntry> findByPilotIdAndDateAfter(@Param("pilotId") UUID pilotId, @Param("from") LocalDate from);
 
     @Query("SELECT SUM(f.totalFlightTime) FROM FlightLogEntry f WHERE f.pilot.id = :pilotId")
     Double sumTotalFlightTimeByPilotId(@Param("pilotId") UUID pilotId);
+
+    @Query("SELECT new com.pilotlogbook.repository.projection.ModelFlightTotalsRow(a.model, COUNT(f), "
+            + "SUM(f.totalFlightTime), SUM(f.picTime), SUM(f.sicTime), SUM(f.dualReceivedTime), SUM(f.soloTime), "
+            + "SUM(f.nightTime), SUM(f.ifrTime), SUM(f.crossCountryTime), SUM(f.dayLandings), SUM(f.nightLandings)) "
+            + "FROM FlightLogEntry f JOIN f.aircraft a "
+            + "WHERE f.date BETWEEN :from AND :to GROUP BY a.model")
+    List<ModelFlightTotalsRow> sumByModel(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /** Streams one lightweight row per flight in the window; must be consumed inside a transaction. */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.pilotlogbook.repository.projection.UtilizationSample(a.id, f.totalFlightTime) "
+            + "FROM FlightLogEntry f JOIN f.aircraft a "
+            + "WHERE f.date BETWEEN :from AND :to AND (:category IS NULL OR a.category = :category)")
+    Stream<UtilizationSample> streamUtilizationSamples(@Param("from") LocalDate from,
+            @Param("to") LocalDate to,
+            @Param("category") AircraftCategory category);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.pilotlogbook.repository.projection.FlightRemarksRow(f.id, f.aircraft.id, f.remarks) "
+            + "FROM FlightLogEntry f WHERE f.remarks IS NOT NULL")
+    Stream<FlightRemarksRow> streamRemarks();
 }
@@ -2,10 +2,19 @@ package com.pilotlogbook.repository;
 
 import com.pilotlogbook.model.MaintenanceRecord;
 import com.pilotlogbook.model.enums.MaintenanceStatus;
+import com.pilotlogbook.repository.projection.MaintenanceTextRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface MaintenanceRecordRepository extends JpaRepository<MaintenanceRecord, UUID> {
     List<MaintenanceRecord> findByAircraftIdOrderByScheduledDateDesc(UUID aircraftId);
@@ -13,4 +22,22 @@ public interface MaintenanceRecordRepository extends JpaRepository<MaintenanceRe
     List<MaintenanceRecord> findByStatus(MaintenanceStatus status);
 
     List<MaintenanceRecord> findByStatusIn(List<MaintenanceStatus> statuses);
+
+    @Query("SELECT m FROM MaintenanceRecord m JOIN FETCH m.aircraft WHERE m.status IN :statuses")
+    List<MaintenanceRecord> findByStatusInWithAircraft(@Param("statuses") List<MaintenanceStatus> statuses);
+
+    long countByStatus(MaintenanceStatus status);
+
+    long countByStatusAndNextDueDateLessThanEqual(MaintenanceStatus status, LocalDate date);
+
+    List<MaintenanceRecord> findByChangeSeqGreaterThanOrderByChangeSeqAsc(long changeSeq, Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "5000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.pilotlogbook.repository.projection.MaintenanceTextRow("
+            + "m.id, m.aircraft.id, m.technician, m.squawks, m.notes) FROM MaintenanceRecord m "
+            + "WHERE m.technician IS NOT NULL OR m.squawks IS NOT NULL OR m.notes IS NOT NULL")
+    Stream<MaintenanceTextRow> streamSearchableText();
 }
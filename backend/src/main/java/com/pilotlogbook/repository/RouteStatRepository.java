@@ -0,0 +1,40 @@
+package com.pilotlogbook.repository;
+
+import com.pilotlogbook.model.RouteKey;
+import com.pilotlogbook.model.RouteStat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface RouteStatRepository extends JpaRepository<RouteStat, RouteKey> {
+
+    /** Adds (or, with negative values, removes) flights to a route counter in a single upsert. */
+    @Modifying
+    @Query(value = "INSERT INTO route_stats (departure_airport_id, arrival_airport_id, flight_count, total_flight_time) "
+            + "VALUES (:departure, :arrival, :flights, :hours) "
+            + "ON CONFLICT (departure_airport_id, arrival_airport_id) DO UPDATE SET "
+            + "flight_count = route_stats.flight_count + EXCLUDED.flight_count, "
+            + "total_flight_time = route_stats.total_flight_time + EXCLUDED.total_flight_time",
+            nativeQuery = true)
+    void increment(@Param("departure") int departureAirportId,
+            @Param("arrival") int arrivalAirportId,
+            @Param("flights") int flights,
+            @Param("hours") double hours);
+
+    @Query("SELECT r FROM RouteStat r WHERE r.flightCount > 0 ORDER BY r.flightCount DESC")
+    List<RouteStat> findTopRoutes(Pageable pageable);
+
+    /** Rows of [airport_id, departures, arrivals], busiest airports first. */
+    @Query(value = "SELECT airport_id, SUM(departures), SUM(arrivals) FROM ("
+            + "SELECT departure_airport_id AS airport_id, flight_count AS departures, 0 AS arrivals FROM route_stats "
+            + "UNION ALL "
+            + "SELECT arrival_airport_id, 0, flight_count FROM route_stats) m "
+            + "GROUP BY airport_id HAVING SUM(departures) + SUM(arrivals) > 0 "
+            + "ORDER BY SUM(departures) + SUM(arrivals) DESC LIMIT :limit",
+            nativeQuery = true)
+    List<Object[]> findAirportMovements(@Param("limit") int limit);
+}
@@ -3,11 +3,8 @@ package com.pilotlogbook.repository;
 import com.pilotlogbook.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
 import java.util.UUID;
 
-public interface UserRepository extends JpaRepository<User, UUID> {
-    Optional<User> findByEmail(String email);
-
+public interface UserRepository extends JpaRepository<User, UUID>, UserRepositoryCustom {
     boolean existsByEmail(String email);
 }
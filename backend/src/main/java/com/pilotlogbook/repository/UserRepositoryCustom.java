@@ -0,0 +1,11 @@
+package com.pilotlogbook.repository;
+
+import com.pilotlogbook.model.User;
+
+import java.util.Optional;
+
+public interface UserRepositoryCustom {
+
+    /** Natural-id lookup, answered from the second-level cache when the user is cached. */
+    Optional<User> findByEmail(String email);
+}
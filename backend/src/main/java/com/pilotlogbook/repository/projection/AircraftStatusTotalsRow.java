@@ -0,0 +1,7 @@
+package com.pilotlogbook.repository.projection;
+
+import com.pilotlogbook.model.enums.AircraftStatus;
+
+/** Aircraft count and summed airframe hours for one status — fleet stats. */
+public record AircraftStatusTotalsRow(AircraftStatus status, long aircraft, double airframeHours) {
+}
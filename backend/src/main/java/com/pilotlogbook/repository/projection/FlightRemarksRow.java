@@ -0,0 +1,6 @@
+package com.pilotlogbook.repository.projection;
+
+import java.util.UUID;
+
+public record FlightRemarksRow(UUID id, UUID aircraftId, String remarks) {
+}
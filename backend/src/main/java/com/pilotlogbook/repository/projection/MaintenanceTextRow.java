@@ -0,0 +1,6 @@
+package com.pilotlogbook.repository.projection;
+
+import java.util.UUID;
+
+public record MaintenanceTextRow(UUID id, UUID aircraftId, String technician, String squawks, String notes) {
+}
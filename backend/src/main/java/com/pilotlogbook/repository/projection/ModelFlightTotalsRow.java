@@ -0,0 +1,17 @@
+package com.pilotlogbook.repository.projection;
+
+/** Flight log sums for one aircraft model — the database path of fleet flight totals. */
+public record ModelFlightTotalsRow(
+        String model,
+        long flights,
+        double totalTime,
+        double picTime,
+        double sicTime,
+        double dualReceivedTime,
+        double soloTime,
+        double nightTime,
+        double ifrTime,
+        double crossCountryTime,
+        long dayLandings,
+        long nightLandings) {
+}
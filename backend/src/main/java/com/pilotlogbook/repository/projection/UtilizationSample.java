@@ -0,0 +1,10 @@
+package com.pilotlogbook.repository.projection;
+
+import java.util.UUID;
+
+/**
+ * Minimal flight-log projection used by the fleet utilization engine —
+ * only the columns the reduction needs, no entity hydration.
+ */
+public record UtilizationSample(UUID aircraftId, double hours) {
+}
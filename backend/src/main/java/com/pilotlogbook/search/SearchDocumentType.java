@@ -0,0 +1,6 @@
+package com.pilotlogbook.search;
+
+public enum SearchDocumentType {
+    FLIGHT_LOG,
+    MAINTENANCE
+}
@@ -0,0 +1,399 @@
+package com.pilotlogbook.search;
+
+import com.pilotlogbook.dto.SearchHitResponse;
+import com.pilotlogbook.event.ChangeType;
+import com.pilotlogbook.event.EntityChangedEvent;
+import com.pilotlogbook.model.Aircraft;
+import com.pilotlogbook.model.FlightLogEntry;
+import com.pilotlogbook.model.MaintenanceRecord;
+import com.pilotlogbook.repository.AircraftRepository;
+import com.pilotlogbook.repository.FlightLogEntryRepository;
+import com.pilotlogbook.repository.MaintenanceRecordRepository;
+import com.pilotlogbook.repository.projection.FlightRemarksRow;
+import com.pilotlogbook.repository.projection.MaintenanceTextRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Embedded Lucene index over flight remarks and maintenance squawks, notes and technician.
+ * Committed service-layer writes are applied through {@link EntityChangedEvent}s and become
+ * searchable after the next near-real-time refresh; changes committed by other nodes are
+ * re-read one row at a time. The whole index is rebuilt from the database on startup, into a
+ * separate in-memory index that replaces the live documents in one step; searches keep seeing
+ * the old documents until then, and changes that commit meanwhile are replayed onto the result.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    static final String FIELD_ID = "id";
+    static final String FIELD_TYPE = "type";
+    static final String FIELD_AIRCRAFT_ID = "aircraftId";
+    static final String FIELD_REMARKS = "remarks";
+    static final String FIELD_SQUAWKS = "squawks";
+    static final String FIELD_NOTES = "notes";
+    static final String FIELD_TECHNICIAN = "technician";
+
+    private static final int MAX_LIMIT = 100;
+
+    private final AircraftRepository aircraftRepository;
+    private final FlightLogEntryRepository flightLogRepository;
+    private final MaintenanceRecordRepository maintenanceRecordRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.search.index-path:}")
+    private String indexPath;
+
+    @Value("${app.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @Value("${app.search.refresh-interval-ms:250}")
+    private long refreshIntervalMs;
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final Map<String, Float> searchFields = Map.of(
+            FIELD_REMARKS, 1.0f,
+            FIELD_SQUAWKS, 1.0f,
+            FIELD_NOTES, 1.0f,
+            FIELD_TECHNICIAN, 0.5f);
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ScheduledExecutorService refresher;
+
+    // Changes and refreshes share the read side; swapping in a rebuilt index takes the write side,
+    // so no searcher ever opens on a half-swapped index
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile Queue<IndexChange> pendingDuringRebuild;
+
+    @PostConstruct
+    void open() throws IOException {
+        directory = StringUtils.hasText(indexPath)
+                ? FSDirectory.open(Path.of(indexPath))
+                : new ByteBuffersDirectory();
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+
+        refresher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "search-index-refresh");
+            t.setDaemon(true);
+            return t;
+        });
+        refresher.scheduleWithFixedDelay(this::refresh, refreshIntervalMs, refreshIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        refresher.shutdownNow();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    public List<SearchHitResponse> search(String query, SearchDocumentType type, int limit) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        Query parsed = new SimpleQueryParser(analyzer, searchFields).parse(query);
+        if (type != null) {
+            parsed = new BooleanQuery.Builder()
+                    .add(parsed, BooleanClause.Occur.MUST)
+                    .add(new TermQuery(new Term(FIELD_TYPE, type.name())), BooleanClause.Occur.FILTER)
+                    .build();
+        }
+
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs top = searcher.search(parsed, Math.max(1, Math.min(limit, MAX_LIMIT)));
+                StoredFields stored = searcher.storedFields();
+                List<SearchHitResponse> hits = new ArrayList<>(top.scoreDocs.length);
+                for (ScoreDoc sd : top.scoreDocs) {
+                    Document doc = stored.document(sd.doc);
+                    hits.add(new SearchHitResponse(
+                            UUID.fromString(doc.get(FIELD_ID)),
+                            SearchDocumentType.valueOf(doc.get(FIELD_TYPE)),
+                            UUID.fromString(doc.get(FIELD_AIRCRAFT_ID)),
+                            sd.score));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search failed", e);
+        }
+    }
+
+    // ─── Index maintenance ────────────────────────────────────────────────────
+
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent event) {
+        try {
+            boolean deleted = event.changeType() == ChangeType.DELETED;
+            if (event.entity() instanceof FlightLogEntry e) {
+                if (deleted) {
+                    apply(w -> w.deleteDocuments(new Term(FIELD_ID, e.getId().toString())));
+                } else {
+                    index(new FlightRemarksRow(e.getId(), e.getAircraft().getId(), e.getRemarks()));
+                }
+            } else if (event.entity() instanceof MaintenanceRecord r) {
+                if (deleted) {
+                    apply(w -> w.deleteDocuments(new Term(FIELD_ID, r.getId().toString())));
+                } else {
+                    index(new MaintenanceTextRow(r.getId(), r.getAircraft().getId(),
+                            r.getTechnician(), r.getSquawks(), r.getNotes()));
+                }
+            } else if (event.entity() instanceof Aircraft a && deleted) {
+                // Flight logs and maintenance records cascade-delete with the aircraft
+                apply(w -> w.deleteDocuments(new Term(FIELD_AIRCRAFT_ID, a.getId().toString())));
+            }
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Failed to apply {} to search index", event.changeType(), e);
+        }
+    }
+
+    /** Re-reads one flight log changed by another node; drops its document when it no longer exists. */
+    public void reindexFlight(UUID id) {
+        flightLogRepository.findById(id).ifPresentOrElse(
+                e -> index(new FlightRemarksRow(e.getId(), e.getAircraft().getId(), e.getRemarks())),
+                () -> remove(List.of(id)));
+    }
+
+    /** Re-reads one maintenance record changed by another node; drops its document when it no longer exists. */
+    public void reindexMaintenance(UUID id) {
+        maintenanceRecordRepository.findById(id).ifPresentOrElse(
+                r -> index(new MaintenanceTextRow(r.getId(), r.getAircraft().getId(),
+                        r.getTechnician(), r.getSquawks(), r.getNotes())),
+                () -> remove(List.of(id)));
+    }
+
+    /** Indexes maintenance records a bulk insert on this node wrote without change events. */
+    public void indexMaintenance(Collection<MaintenanceTextRow> rows) {
+        try {
+            rows.forEach(this::index);
+        } catch (UncheckedIOException e) {
+            log.warn("Failed to index {} maintenance records", rows.size(), e);
+        }
+    }
+
+    /** Drops every document of an aircraft another node deleted. */
+    public void removeAircraftIfDeleted(UUID aircraftId) {
+        if (aircraftRepository.existsById(aircraftId)) {
+            return;
+        }
+        try {
+            apply(w -> w.deleteDocuments(new Term(FIELD_AIRCRAFT_ID, aircraftId.toString())));
+        } catch (IOException e) {
+            log.warn("Failed to remove documents of aircraft {} from search index", aircraftId, e);
+        }
+    }
+
+    /** Drops documents for rows that left the hot tables without a change event (e.g. archival). */
+    public void remove(Collection<UUID> ids) {
+        Term[] terms = ids.stream()
+                .map(id -> new Term(FIELD_ID, id.toString()))
+                .toArray(Term[]::new);
+        try {
+            apply(w -> w.deleteDocuments(terms));
+        } catch (IOException e) {
+            log.warn("Failed to remove {} documents from search index", ids.size(), e);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        Thread t = new Thread(this::rebuild, "search-index-rebuild");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /**
+     * Re-reads every searchable row from the database into a fresh index, then replaces the
+     * live documents with it and replays the changes that committed in the meantime.
+     */
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long started = System.nanoTime();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        write(() -> pendingDuringRebuild = new ConcurrentLinkedQueue<>());
+        try (Directory fresh = new ByteBuffersDirectory()) {
+            try (IndexWriter freshWriter = new IndexWriter(fresh, new IndexWriterConfig(analyzer))) {
+                tx.executeWithoutResult(status -> {
+                    try (Stream<FlightRemarksRow> rows = flightLogRepository.streamRemarks()) {
+                        rows.forEach(row -> add(freshWriter, document(row)));
+                    }
+                    try (Stream<MaintenanceTextRow> rows = maintenanceRecordRepository.streamSearchableText()) {
+                        rows.forEach(row -> add(freshWriter, document(row)));
+                    }
+                });
+            }
+            lock.writeLock().lock();
+            try {
+                writer.deleteAll();
+                writer.addIndexes(fresh);
+                for (IndexChange change : pendingDuringRebuild) {
+                    change.apply(writer);
+                }
+                pendingDuringRebuild = null;
+                writer.commit();
+                searcherManager.maybeRefresh();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Search index rebuilt with {} documents in {} ms",
+                    writer.getDocStats().numDocs, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        } catch (IOException | RuntimeException e) {
+            log.error("Search index rebuild failed", e);
+        } finally {
+            write(() -> pendingDuringRebuild = null);
+            rebuilding.set(false);
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    /** One change to the live index; kept while a rebuild runs so it can be replayed onto the result. */
+    @FunctionalInterface
+    private interface IndexChange {
+        void apply(IndexWriter writer) throws IOException;
+    }
+
+    private void index(FlightRemarksRow row) {
+        update(row.id(), document(row));
+    }
+
+    private void index(MaintenanceTextRow row) {
+        update(row.id(), document(row));
+    }
+
+    private Document document(FlightRemarksRow row) {
+        Document doc = baseDocument(row.id(), SearchDocumentType.FLIGHT_LOG, row.aircraftId());
+        addText(doc, FIELD_REMARKS, row.remarks());
+        return doc;
+    }
+
+    private Document document(MaintenanceTextRow row) {
+        Document doc = baseDocument(row.id(), SearchDocumentType.MAINTENANCE, row.aircraftId());
+        addText(doc, FIELD_TECHNICIAN, row.technician());
+        addText(doc, FIELD_SQUAWKS, row.squawks());
+        addText(doc, FIELD_NOTES, row.notes());
+        return doc;
+    }
+
+    private Document baseDocument(UUID id, SearchDocumentType type, UUID aircraftId) {
+        Document doc = new Document();
+        doc.add(new StringField(FIELD_ID, id.toString(), Field.Store.YES));
+        doc.add(new StringField(FIELD_TYPE, type.name(), Field.Store.YES));
+        doc.add(new StringField(FIELD_AIRCRAFT_ID, aircraftId.toString(), Field.Store.YES));
+        return doc;
+    }
+
+    private void addText(Document doc, String field, String value) {
+        if (StringUtils.hasText(value)) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    private void update(UUID id, Document doc) {
+        try {
+            apply(w -> w.updateDocument(new Term(FIELD_ID, id.toString()), doc));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void add(IndexWriter target, Document doc) {
+        try {
+            target.addDocument(doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void apply(IndexChange change) throws IOException {
+        lock.readLock().lock();
+        try {
+            change.apply(writer);
+            Queue<IndexChange> pending = pendingDuringRebuild;
+            if (pending != null) {
+                pending.add(change);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void refresh() {
+        lock.readLock().lock();
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("Search index refresh failed", e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
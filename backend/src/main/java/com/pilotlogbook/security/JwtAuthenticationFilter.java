@@ -1,9 +1,11 @@
 package com.pilotlogbook.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import com.pilotlogbook.timing.RequestTimings;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,6 +24,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final UserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -30,11 +33,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = extractTokenFromRequest(request);
 
         if (StringUtils.hasText(token)) {
+            long started = System.nanoTime();
             try {
-                String username = jwtTokenProvider.extractUsername(token);
-                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                Claims claims = jwtTokenProvider.parseToken(token);
+                String username = claims.getSubject();
+                if (username != null && SecurityContextHolder.getContext().getAuthentication() == null
+                        && !tokenDenylist.isRevoked(JwtTokenProvider.tokenId(claims))) {
                     UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                    if (jwtTokenProvider.validateToken(token, userDetails)) {
+                    if (username.equals(userDetails.getUsername())) {
                         var authToken = new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -43,6 +49,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
             } catch (Exception ignored) {
                 // Invalid token — skip
+            } finally {
+                RequestTimings.recordJwt(System.nanoTime() - started);
             }
         }
 
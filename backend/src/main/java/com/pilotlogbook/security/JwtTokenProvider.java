@@ -1,5 +1,6 @@
 package com.pilotlogbook.security;
 
+import com.pilotlogbook.model.id.UuidV7Generator;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
@@ -25,14 +27,33 @@ public class JwtTokenProvider {
     }
 
     public String generateToken(UserDetails userDetails) {
+        return generateToken(userDetails.getUsername());
+    }
+
+    public String generateToken(String subject) {
         return Jwts.builder()
-                .subject(userDetails.getUsername())
+                .id(UuidV7Generator.next().toString())
+                .subject(subject)
                 .issuedAt(new Date())
                 .expiration(new Date(System.currentTimeMillis() + jwtExpirationMs))
                 .signWith(getSigningKey())
                 .compact();
     }
 
+    /**
+     * Verifies the signature and expiry and returns the claims; throws {@link JwtException}
+     * otherwise. Parsing once and reading subject and jti from the result saves the
+     * repeated HMAC checks of the single-claim helpers.
+     */
+    public Claims parseToken(String token) {
+        return parseClaims(token).getPayload();
+    }
+
+    /** The {@code jti} claim; null for tokens issued before it was added. */
+    public static UUID tokenId(Claims claims) {
+        return claims.getId() != null ? UUID.fromString(claims.getId()) : null;
+    }
+
     public String extractUsername(String token) {
         return parseClaims(token).getPayload().getSubject();
     }
@@ -0,0 +1,117 @@
+package com.pilotlogbook.security;
+
+import com.pilotlogbook.model.RevokedToken;
+import com.pilotlogbook.repository.RevokedTokenRepository;
+import com.pilotlogbook.support.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This node's copy of {@code revoked_tokens}: a Bloom filter in front of an exact
+ * jti → expiry map. Almost every request carries a token that was never revoked, and the
+ * filter answers those with a few bit probes; only filter hits consult the map.
+ * Entries are dropped once their token has expired — the filter is then rebuilt, since
+ * Bloom filters can't forget. Writers are serialized so a rebuild never loses an entry.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenDenylist {
+
+    private static final int MIN_FILTER_CAPACITY = 1024;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.jwt.denylist.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    private final Map<UUID, Instant> expiries = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+
+    @PostConstruct
+    void load() {
+        reload();
+        Gauge.builder("app.jwt.denylist.size", expiries, Map::size).register(meterRegistry);
+    }
+
+    /** True when the token with this {@code jti} was revoked; null (tokens without a jti) is never revoked. */
+    public boolean isRevoked(UUID jti) {
+        if (jti == null || expiries.isEmpty()) {
+            return false;
+        }
+        long h1 = mix(jti.getMostSignificantBits());
+        long h2 = mix(jti.getLeastSignificantBits() ^ h1);
+        return filter.mightContain(h1, h2) && expiries.containsKey(jti);
+    }
+
+    public synchronized void add(UUID jti, Instant expiresAt) {
+        if (!expiresAt.isAfter(Instant.now()) || expiries.put(jti, expiresAt) != null) {
+            return;
+        }
+        if (expiries.size() > filter.expectedInsertions()) {
+            rebuild();
+        } else {
+            put(filter, jti);
+        }
+    }
+
+    /** Re-reads one row, e.g. after another node revoked the token. */
+    public void refresh(UUID jti) {
+        revokedTokenRepository.findById(jti).ifPresent(t -> add(t.getJti(), t.getExpiresAt()));
+    }
+
+    /** Replaces the in-memory copy with the live rows of {@code revoked_tokens}. */
+    public synchronized void reload() {
+        Map<UUID, Instant> live = new HashMap<>();
+        for (RevokedToken t : revokedTokenRepository.findByExpiresAtAfter(Instant.now())) {
+            live.put(t.getJti(), t.getExpiresAt());
+        }
+        // merge rather than clear, so known revocations never disappear while this runs
+        expiries.putAll(live);
+        expiries.keySet().retainAll(live.keySet());
+        rebuild();
+        log.info("Loaded {} revoked access tokens", expiries.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.denylist.sweep-interval-ms:60000}")
+    public synchronized void sweep() {
+        Instant now = Instant.now();
+        if (expiries.values().removeIf(expiresAt -> !expiresAt.isAfter(now))) {
+            rebuild();
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    /** Sized for twice the current entries so steady revocation doesn't rebuild on every add. */
+    private void rebuild() {
+        BloomFilter fresh = new BloomFilter(Math.max(MIN_FILTER_CAPACITY, expiries.size() * 2), falsePositiveRate);
+        expiries.keySet().forEach(jti -> put(fresh, jti));
+        filter = fresh;
+    }
+
+    private static void put(BloomFilter target, UUID jti) {
+        long h1 = mix(jti.getMostSignificantBits());
+        target.put(h1, mix(jti.getLeastSignificantBits() ^ h1));
+    }
+
+    /** SplitMix64 finalizer — jti UUIDs are time-ordered, so their raw bits are far from uniform. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -1,24 +1,33 @@
 package com.pilotlogbook.service;
 
+import com.pilotlogbook.datasource.AnalyticsWorkload;
 import com.pilotlogbook.dto.AircraftRequest;
 import com.pilotlogbook.dto.AircraftResponse;
 import com.pilotlogbook.dto.FleetStatsResponse;
 import com.pilotlogbook.dto.MaintenanceAlertResponse;
+import com.pilotlogbook.event.ChangeType;
+import com.pilotlogbook.event.EntityChangedEvent;
 import com.pilotlogbook.model.Aircraft;
 import com.pilotlogbook.model.MaintenanceRecord;
 import com.pilotlogbook.model.User;
+import com.pilotlogbook.model.enums.AircraftStatus;
 import com.pilotlogbook.model.enums.MaintenanceStatus;
 import com.pilotlogbook.repository.AircraftRepository;
 import com.pilotlogbook.repository.MaintenanceRecordRepository;
+import com.pilotlogbook.repository.projection.AircraftStatusTotalsRow;
 import com.pilotlogbook.repository.UserRepository;
+import com.pilotlogbook.singleflight.SingleFlight;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -28,6 +37,8 @@ public class AircraftService {
     private final AircraftRepository aircraftRepository;
     private final UserRepository userRepository;
     private final MaintenanceRecordRepository maintenanceRecordRepository;
+    private final MaintenanceForecastService forecastService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<AircraftResponse> getAllAircraft() {
         return aircraftRepository.findAll().stream().map(this::toResponse).toList();
@@ -57,7 +68,9 @@ public class AircraftService {
                 .imageUrl(request.imageUrl())
                 .build();
 
-        return toResponse(aircraftRepository.save(aircraft));
+        Aircraft saved = aircraftRepository.save(aircraft);
+        eventPublisher.publishEvent(new EntityChangedEvent(saved, ChangeType.CREATED));
+        return toResponse(saved);
     }
 
     @Transactional
@@ -79,41 +92,50 @@ public class AircraftService {
         aircraft.setOwner(owner);
         aircraft.setImageUrl(request.imageUrl());
 
-        return toResponse(aircraftRepository.save(aircraft));
+        Aircraft saved = aircraftRepository.save(aircraft);
+        eventPublisher.publishEvent(new EntityChangedEvent(saved, ChangeType.UPDATED));
+        return toResponse(saved);
     }
 
     @Transactional
     public void delete(UUID id) {
-        aircraftRepository.delete(findOrThrow(id));
+        Aircraft aircraft = findOrThrow(id);
+        aircraftRepository.delete(aircraft);
+        eventPublisher.publishEvent(new EntityChangedEvent(aircraft, ChangeType.DELETED));
     }
 
+    /**
+     * Overdue checks are counted by status alone — the {@code maintenance-overdue} job moves DUE
+     * records past their date to OVERDUE. "Due soon" still includes DUE records whose date passed
+     * since its last run, so nothing drops out of the figures in between.
+     */
+    @SingleFlight("fleet-stats")
+    @AnalyticsWorkload
     public FleetStatsResponse getFleetStats() {
-        List<Aircraft> all = aircraftRepository.findAll();
-        List<MaintenanceRecord> records = maintenanceRecordRepository.findAll();
-
-        long overdue = records.stream()
-                .filter(r -> r.getStatus() == MaintenanceStatus.OVERDUE).count();
+        Map<AircraftStatus, AircraftStatusTotalsRow> byStatus = new EnumMap<>(AircraftStatus.class);
+        aircraftRepository.totalsByStatus().forEach(row -> byStatus.put(row.status(), row));
 
-        long dueSoon = records.stream()
-                .filter(r -> r.getStatus() == MaintenanceStatus.DUE && r.getNextDueDate() != null
-                        && ChronoUnit.DAYS.between(LocalDate.now(), r.getNextDueDate()) <= 30)
-                .count();
+        long overdue = maintenanceRecordRepository.countByStatus(MaintenanceStatus.OVERDUE);
+        long dueSoon = maintenanceRecordRepository.countByStatusAndNextDueDateLessThanEqual(
+                MaintenanceStatus.DUE, LocalDate.now().plusDays(30));
 
         return new FleetStatsResponse(
-                all.size(),
-                (int) all.stream().filter(a -> a.getStatus().name().equals("AIRWORTHY")).count(),
-                (int) all.stream().filter(a -> a.getStatus().name().equals("GROUNDED")).count(),
-                (int) all.stream().filter(a -> a.getStatus().name().equals("MAINTENANCE")).count(),
+                (int) byStatus.values().stream().mapToLong(AircraftStatusTotalsRow::aircraft).sum(),
+                countWithStatus(byStatus, AircraftStatus.AIRWORTHY),
+                countWithStatus(byStatus, AircraftStatus.GROUNDED),
+                countWithStatus(byStatus, AircraftStatus.MAINTENANCE),
                 (int) overdue,
                 (int) dueSoon,
-                all.stream().mapToDouble(Aircraft::getTotalAirframeHours).sum());
+                byStatus.values().stream().mapToDouble(AircraftStatusTotalsRow::airframeHours).sum());
     }
 
+    @SingleFlight("maintenance-alerts")
+    @AnalyticsWorkload
     public List<MaintenanceAlertResponse> getMaintenanceAlerts() {
-        List<Aircraft> all = aircraftRepository.findAll();
-        List<MaintenanceRecord> pending = maintenanceRecordRepository.findByStatusIn(
+        List<MaintenanceRecord> pending = maintenanceRecordRepository.findByStatusInWithAircraft(
                 List.of(MaintenanceStatus.DUE, MaintenanceStatus.OVERDUE, MaintenanceStatus.IN_PROGRESS));
         LocalDate now = LocalDate.now();
+        Map<UUID, Double> rates = forecastService.currentRates(now);
 
         return pending.stream().map(record -> {
             Aircraft ac = record.getAircraft();
@@ -123,11 +145,13 @@ public class AircraftService {
             double hoursUntilDue = record.getNextDueHours() != null
                     ? round1(record.getNextDueHours() - ac.getTotalAirframeHours())
                     : 999.0;
+            LocalDate projectedDueDate = record.getNextDueHours() != null
+                    ? forecastService.projectDueDate(record.getNextDueHours() - ac.getTotalAirframeHours(),
+                            rates.get(ac.getId()), now)
+                    : null;
 
             String urgency;
-            if (record.getStatus() == MaintenanceStatus.OVERDUE || daysUntilDue < 0 || hoursUntilDue < 0) {
-                urgency = "CRITICAL";
-            } else if (daysUntilDue <= 7 || hoursUntilDue <= 5) {
+            if (record.getStatus() == MaintenanceStatus.OVERDUE || daysUntilDue <= 7 || hoursUntilDue <= 5) {
                 urgency = "CRITICAL";
             } else if (daysUntilDue <= 30 || hoursUntilDue <= 25) {
                 urgency = "WARNING";
@@ -136,7 +160,7 @@ public class AircraftService {
             }
 
             return new MaintenanceAlertResponse(ac.getId(), ac.getTailNumber(),
-                    record.getCheckType(), record.getStatus(), daysUntilDue, hoursUntilDue, urgency);
+                    record.getCheckType(), record.getStatus(), daysUntilDue, hoursUntilDue, projectedDueDate, urgency);
         }).sorted(Comparator.comparing(a -> switch (a.urgency()) {
             case "CRITICAL" -> 0;
             case "WARNING" -> 1;
@@ -149,7 +173,7 @@ public class AircraftService {
                 .orElseThrow(() -> new IllegalArgumentException("Aircraft not found: " + id));
     }
 
-    private AircraftResponse toResponse(Aircraft a) {
+    AircraftResponse toResponse(Aircraft a) {
         return new AircraftResponse(
                 a.getId(), a.getTailNumber(), a.getMake(), a.getModel(), a.getYear(),
                 a.getCategory(), a.getTotalAirframeHours(), a.getStatus(),
@@ -158,6 +182,11 @@ public class AircraftService {
                 a.getImageUrl(), a.getCreatedAt(), a.getUpdatedAt());
     }
 
+    private static int countWithStatus(Map<AircraftStatus, AircraftStatusTotalsRow> byStatus, AircraftStatus status) {
+        AircraftStatusTotalsRow row = byStatus.get(status);
+        return row != null ? (int) row.aircraft() : 0;
+    }
+
     private double round1(double value) {
         return Math.round(value * 10.0) / 10.0;
     }
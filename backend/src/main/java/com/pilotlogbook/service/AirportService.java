@@ -0,0 +1,213 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.datasource.AnalyticsWorkload;
+import com.pilotlogbook.dto.AirportMovementResponse;
+import com.pilotlogbook.dto.AirportResponse;
+import com.pilotlogbook.dto.RouteStatsResponse;
+import com.pilotlogbook.model.Airport;
+import com.pilotlogbook.model.RouteStat;
+import com.pilotlogbook.repository.AirportRepository;
+import com.pilotlogbook.repository.RouteStatRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * Airport dimension and route statistics.
+ * Flight logs store compact integer airport ids; this service owns the in-memory
+ * code ⇄ id lookup used to validate incoming codes and to render responses.
+ * The bundled CSV only supplies names and coordinates: a well-formed code it doesn't know
+ * is added to {@code airports} on first use, like the codes V4 carried over from old logs.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AirportService {
+
+    private static final String AIRPORTS_CSV = "airports/airports.csv";
+    private static final int MAX_LIMIT = 500;
+    private static final Pattern CODE = Pattern.compile("[A-Z0-9]{3,10}");
+    private static final CSVFormat CSV = CSVFormat.DEFAULT.builder()
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .setIgnoreEmptyLines(true)
+            .setTrim(true)
+            .build();
+
+    private final AirportRepository airportRepository;
+    private final RouteStatRepository routeStatRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile Lookup lookup = new Lookup(Map.of(), new Airport[0]);
+
+    @PostConstruct
+    void load() {
+        upsertBundledAirports();
+        reload();
+    }
+
+    /** Re-reads the airports table into the in-memory lookup. */
+    public synchronized void reload() {
+        List<Airport> airports = airportRepository.findAll();
+        int maxId = airports.stream().mapToInt(Airport::getId).max().orElse(0);
+        Airport[] byId = new Airport[maxId + 1];
+        Map<String, Integer> idsByCode = new HashMap<>(airports.size() * 2);
+        for (Airport a : airports) {
+            byId[a.getId()] = a;
+            idsByCode.put(a.getCode().intern(), a.getId());
+        }
+        lookup = new Lookup(idsByCode, byId);
+        log.info("Loaded {} airports", airports.size());
+    }
+
+    public int resolveId(String code) {
+        if (code == null) {
+            throw new IllegalArgumentException("Airport code is required");
+        }
+        String normalized = normalize(code);
+        Integer id = lookup.idsByCode().get(normalized);
+        return id != null ? id : register(normalized);
+    }
+
+    public String codeOf(int airportId) {
+        Airport[] byId = lookup.byId();
+        if (airportId < byId.length && byId[airportId] != null) {
+            return byId[airportId].getCode();
+        }
+        // registered by another node since this one last loaded
+        return airportRepository.findById(airportId)
+                .map(a -> {
+                    add(a);
+                    return a.getCode();
+                })
+                .orElse(null);
+    }
+
+    public List<AirportResponse> getAll() {
+        return Arrays.stream(lookup.byId())
+                .filter(Objects::nonNull)
+                .map(a -> new AirportResponse(a.getId(), a.getCode(), a.getName(), a.getCity(),
+                        a.getCountry(), a.getLatitude(), a.getLongitude()))
+                .toList();
+    }
+
+    // ─── Route statistics ─────────────────────────────────────────────────────
+
+    /** Applies a flight (sign = 1) or its removal (sign = -1) to the route counters. */
+    @Transactional
+    public void recordFlight(int departureAirportId, int arrivalAirportId, double hours, int sign) {
+        routeStatRepository.increment(departureAirportId, arrivalAirportId, sign, sign * hours);
+    }
+
+    @AnalyticsWorkload
+    public List<RouteStatsResponse> getTopRoutes(int limit) {
+        return routeStatRepository.findTopRoutes(PageRequest.of(0, clamp(limit))).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    @AnalyticsWorkload
+    public List<AirportMovementResponse> getMovements(int limit) {
+        return routeStatRepository.findAirportMovements(clamp(limit)).stream()
+                .map(row -> {
+                    long departures = ((Number) row[1]).longValue();
+                    long arrivals = ((Number) row[2]).longValue();
+                    return new AirportMovementResponse(codeOf(((Number) row[0]).intValue()),
+                            departures, arrivals, departures + arrivals);
+                })
+                .toList();
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    /**
+     * Adds a code the lookup doesn't know. Committed in its own transaction, so the id stays
+     * valid even when the flight log that introduced the code is rolled back.
+     */
+    private synchronized int register(String code) {
+        Integer known = lookup.idsByCode().get(code);
+        if (known != null) {
+            return known;
+        }
+        if (!CODE.matcher(code).matches()) {
+            throw new IllegalArgumentException("Invalid airport code: " + code);
+        }
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Airport airport = tx.execute(status -> {
+            jdbcTemplate.update("INSERT INTO airports (code) VALUES (?) ON CONFLICT (code) DO NOTHING", code);
+            return airportRepository.findByCode(code).orElseThrow();
+        });
+        add(airport);
+        log.info("Registered airport {} outside the bundled dataset", code);
+        return airport.getId();
+    }
+
+    /** Copy-on-write, so readers never see a half-updated lookup. */
+    private synchronized void add(Airport airport) {
+        Lookup current = lookup;
+        Map<String, Integer> idsByCode = new HashMap<>(current.idsByCode());
+        idsByCode.put(airport.getCode().intern(), airport.getId());
+        Airport[] byId = Arrays.copyOf(current.byId(), Math.max(current.byId().length, airport.getId() + 1));
+        byId[airport.getId()] = airport;
+        lookup = new Lookup(idsByCode, byId);
+    }
+
+    private void upsertBundledAirports() {
+        List<Object[]> rows = new ArrayList<>();
+        try (Reader reader = new InputStreamReader(new ClassPathResource(AIRPORTS_CSV).getInputStream(), StandardCharsets.UTF_8);
+             CSVParser parser = CSV.parse(reader)) {
+            for (CSVRecord r : parser) {
+                rows.add(new Object[]{normalize(r.get("code")), r.get("name"), r.get("city"), r.get("country"),
+                        Double.parseDouble(r.get("latitude")), Double.parseDouble(r.get("longitude"))});
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + AIRPORTS_CSV, e);
+        }
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO airports (code, name, city, country, latitude, longitude) VALUES (?, ?, ?, ?, ?, ?) "
+                        + "ON CONFLICT (code) DO UPDATE SET name = EXCLUDED.name, city = EXCLUDED.city, "
+                        + "country = EXCLUDED.country, latitude = EXCLUDED.latitude, longitude = EXCLUDED.longitude",
+                rows);
+    }
+
+    private RouteStatsResponse toResponse(RouteStat r) {
+        return new RouteStatsResponse(
+                codeOf(r.getId().getDepartureAirportId()),
+                codeOf(r.getId().getArrivalAirportId()),
+                r.getFlightCount(),
+                Math.round(r.getTotalFlightTime() * 10.0) / 10.0);
+    }
+
+    private static String normalize(String code) {
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    private record Lookup(Map<String, Integer> idsByCode, Airport[] byId) {
+    }
+}
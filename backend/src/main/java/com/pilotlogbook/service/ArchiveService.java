@@ -0,0 +1,321 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.columnar.FlightLogColumnStore;
+import com.pilotlogbook.columnar.FlightTotals;
+import com.pilotlogbook.datasource.AnalyticsWorkload;
+import com.pilotlogbook.dto.ArchiveRunResponse;
+import com.pilotlogbook.dto.ArchivedFlightResponse;
+import com.pilotlogbook.dto.ArchivedMaintenanceResponse;
+import com.pilotlogbook.exception.ConflictException;
+import com.pilotlogbook.invalidation.Invalidation;
+import com.pilotlogbook.invalidation.InvalidationBus;
+import com.pilotlogbook.model.FlightLogEntry;
+import com.pilotlogbook.model.MaintenanceRecord;
+import com.pilotlogbook.model.enums.MaintenanceCheckType;
+import com.pilotlogbook.search.SearchIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Array;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves cold rows out of the hot tables: flight logs older than the retention period, and
+ * COMPLETED maintenance records other than the latest per aircraft and check type.
+ * Each batch is one statement that deletes from the hot table and inserts into the archive
+ * (flights also fold into {@code archived_flight_totals}), so nothing is ever in both or neither.
+ * Archival does not write sync tombstones, and checkpoints and route statistics keep counting
+ * archived flights. Other nodes learn about archived rows through the invalidation bus.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final String ARCHIVE_FLIGHTS_SQL = """
+            WITH batch AS (
+                SELECT id FROM flight_log_entries
+                WHERE date < ?
+                ORDER BY date, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM flight_log_entries f USING batch b
+                WHERE f.id = b.id
+                RETURNING f.*
+            ), enriched AS (
+                SELECT m.*, a.tail_number, a.model AS aircraft_model,
+                       (SELECT array_agg(t.approach_type) FROM flight_approach_types t
+                        WHERE t.flight_log_entry_id = m.id) AS approach_types
+                FROM moved m JOIN aircraft a ON a.id = m.aircraft_id
+            ), totals AS (
+                INSERT INTO archived_flight_totals AS t
+                    (pilot_id, aircraft_model, flights, total_time, pic_time, sic_time, dual_received_time,
+                     solo_time, night_time, ifr_time, cross_country_time, day_landings, night_landings)
+                SELECT pilot_id, aircraft_model, COUNT(*), SUM(total_flight_time), SUM(pic_time), SUM(sic_time),
+                       SUM(dual_received_time), SUM(solo_time), SUM(night_time), SUM(ifr_time),
+                       SUM(cross_country_time), SUM(day_landings), SUM(night_landings)
+                FROM enriched
+                GROUP BY pilot_id, aircraft_model
+                ON CONFLICT (pilot_id, aircraft_model) DO UPDATE SET
+                    flights = t.flights + EXCLUDED.flights,
+                    total_time = t.total_time + EXCLUDED.total_time,
+                    pic_time = t.pic_time + EXCLUDED.pic_time,
+                    sic_time = t.sic_time + EXCLUDED.sic_time,
+                    dual_received_time = t.dual_received_time + EXCLUDED.dual_received_time,
+                    solo_time = t.solo_time + EXCLUDED.solo_time,
+                    night_time = t.night_time + EXCLUDED.night_time,
+                    ifr_time = t.ifr_time + EXCLUDED.ifr_time,
+                    cross_country_time = t.cross_country_time + EXCLUDED.cross_country_time,
+                    day_landings = t.day_landings + EXCLUDED.day_landings,
+                    night_landings = t.night_landings + EXCLUDED.night_landings
+            )
+            INSERT INTO flight_log_archive
+                (id, pilot_id, aircraft_id, tail_number, aircraft_model, date, departure_airport_id,
+                 arrival_airport_id, total_flight_time, pic_time, sic_time, dual_received_time, solo_time,
+                 night_time, ifr_time, cross_country_time, day_landings, night_landings, weather_condition,
+                 flight_rule, remarks, approach_types, simulator_time, created_at)
+            SELECT id, pilot_id, aircraft_id, tail_number, aircraft_model, date, departure_airport_id,
+                   arrival_airport_id, total_flight_time, pic_time, sic_time, dual_received_time, solo_time,
+                   night_time, ifr_time, cross_country_time, day_landings, night_landings, weather_condition,
+                   flight_rule, remarks, approach_types, simulator_time, created_at
+            FROM enriched
+            RETURNING id
+            """;
+
+    /** The latest COMPLETED record per aircraft and check type stays hot for schedule generation. */
+    private static final String ARCHIVE_MAINTENANCE_SQL = """
+            WITH batch AS (
+                SELECT m.id FROM maintenance_records m
+                WHERE m.status = 'COMPLETED'
+                  AND COALESCE(m.completed_date, m.scheduled_date) < ?
+                  AND EXISTS (
+                      SELECT 1 FROM maintenance_records n
+                      WHERE n.aircraft_id = m.aircraft_id
+                        AND n.check_type = m.check_type
+                        AND n.status = 'COMPLETED'
+                        AND (COALESCE(n.completed_date, n.scheduled_date), n.hours_at_check, n.id)
+                          > (COALESCE(m.completed_date, m.scheduled_date), m.hours_at_check, m.id))
+                ORDER BY m.id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            ), moved AS (
+                DELETE FROM maintenance_records r USING batch b
+                WHERE r.id = b.id
+                RETURNING r.*
+            )
+            INSERT INTO maintenance_record_archive
+                (id, aircraft_id, tail_number, check_type, scheduled_date, completed_date, hours_at_check,
+                 next_due_hours, next_due_date, technician, squawks, cost, notes, created_at)
+            SELECT m.id, m.aircraft_id, a.tail_number, m.check_type, m.scheduled_date, m.completed_date,
+                   m.hours_at_check, m.next_due_hours, m.next_due_date, m.technician, m.squawks, m.cost,
+                   m.notes, m.created_at
+            FROM moved m JOIN aircraft a ON a.id = m.aircraft_id
+            RETURNING id
+            """;
+
+    private static final String SUM_CARRIED_FORWARD_SQL = """
+            SELECT aircraft_model, SUM(flights) AS flights, SUM(total_time) AS total_time,
+                   SUM(pic_time) AS pic_time, SUM(sic_time) AS sic_time,
+                   SUM(dual_received_time) AS dual_received_time, SUM(solo_time) AS solo_time,
+                   SUM(night_time) AS night_time, SUM(ifr_time) AS ifr_time,
+                   SUM(cross_country_time) AS cross_country_time,
+                   SUM(day_landings) AS day_landings, SUM(night_landings) AS night_landings
+            FROM archived_flight_totals
+            GROUP BY aircraft_model
+            """;
+
+    private static final String SUM_ARCHIVED_FLIGHTS_SQL = """
+            SELECT aircraft_model, COUNT(*) AS flights, SUM(total_flight_time) AS total_time,
+                   SUM(pic_time) AS pic_time, SUM(sic_time) AS sic_time,
+                   SUM(dual_received_time) AS dual_received_time, SUM(solo_time) AS solo_time,
+                   SUM(night_time) AS night_time, SUM(ifr_time) AS ifr_time,
+                   SUM(cross_country_time) AS cross_country_time,
+                   SUM(day_landings) AS day_landings, SUM(night_landings) AS night_landings
+            FROM flight_log_archive
+            WHERE date BETWEEN ? AND ?
+            GROUP BY aircraft_model
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final SearchIndexService searchIndexService;
+    private final FlightLogColumnStore columnStore;
+    private final InvalidationBus invalidationBus;
+    private final AirportService airportService;
+
+    @Value("${app.archive.flight-retention-years:7}")
+    private int flightRetentionYears;
+
+    @Value("${app.archive.maintenance-retention-years:2}")
+    private int maintenanceRetentionYears;
+
+    @Value("${app.archive.batch-size:1000}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /** Archives everything currently past retention, one short transaction per batch. */
+    public ArchiveRunResponse run() {
+        if (!running.compareAndSet(false, true)) {
+            throw new ConflictException("An archive run is already in progress");
+        }
+        long started = System.nanoTime();
+        try {
+            LocalDate today = LocalDate.now();
+            long flights = archiveInBatches(ARCHIVE_FLIGHTS_SQL, today.minusYears(flightRetentionYears),
+                    FlightLogEntry.class);
+            long maintenance = archiveInBatches(ARCHIVE_MAINTENANCE_SQL, today.minusYears(maintenanceRetentionYears),
+                    MaintenanceRecord.class);
+            long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+            if (flights + maintenance > 0) {
+                log.info("Archived {} flight logs and {} maintenance records in {} ms", flights, maintenance, durationMs);
+            }
+            return new ArchiveRunResponse(flights, maintenance, durationMs);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // ─── Archive reads ────────────────────────────────────────────────────────
+
+    @AnalyticsWorkload
+    public List<ArchivedFlightResponse> getFlights(UUID pilotId, LocalDate from, LocalDate to, int page, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return jdbcTemplate.query(
+                "SELECT * FROM flight_log_archive WHERE pilot_id = ? AND date BETWEEN ? AND ? "
+                        + "ORDER BY date DESC, id LIMIT ? OFFSET ?",
+                (rs, i) -> new ArchivedFlightResponse(
+                        rs.getObject("id", UUID.class), rs.getObject("pilot_id", UUID.class),
+                        rs.getObject("aircraft_id", UUID.class), rs.getString("tail_number"),
+                        rs.getString("aircraft_model"), rs.getObject("date", LocalDate.class),
+                        airportService.codeOf(rs.getInt("departure_airport_id")),
+                        airportService.codeOf(rs.getInt("arrival_airport_id")),
+                        rs.getDouble("total_flight_time"), rs.getDouble("pic_time"), rs.getDouble("sic_time"),
+                        rs.getDouble("dual_received_time"), rs.getDouble("solo_time"), rs.getDouble("night_time"),
+                        rs.getDouble("ifr_time"), rs.getDouble("cross_country_time"),
+                        rs.getInt("day_landings"), rs.getInt("night_landings"),
+                        rs.getString("remarks"), stringList(rs.getArray("approach_types")),
+                        rs.getTimestamp("archived_at").toInstant()),
+                pilotId, from != null ? from : LocalDate.of(1900, 1, 1), to != null ? to : LocalDate.now(),
+                limit, (long) Math.max(0, page) * limit);
+    }
+
+    @AnalyticsWorkload
+    public List<ArchivedMaintenanceResponse> getMaintenance(UUID aircraftId, int page, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return jdbcTemplate.query(
+                "SELECT * FROM maintenance_record_archive WHERE aircraft_id = ? "
+                        + "ORDER BY completed_date DESC NULLS LAST, id LIMIT ? OFFSET ?",
+                (rs, i) -> new ArchivedMaintenanceResponse(
+                        rs.getObject("id", UUID.class), rs.getObject("aircraft_id", UUID.class),
+                        rs.getString("tail_number"), MaintenanceCheckType.valueOf(rs.getString("check_type")),
+                        rs.getObject("scheduled_date", LocalDate.class), rs.getObject("completed_date", LocalDate.class),
+                        rs.getDouble("hours_at_check"), rs.getString("technician"), rs.getString("squawks"),
+                        nullableDouble(rs, "cost"), rs.getString("notes"),
+                        rs.getTimestamp("archived_at").toInstant()),
+                aircraftId, limit, (long) Math.max(0, page) * limit);
+    }
+
+    /**
+     * Sums of archived flights dated in the window, keyed by the aircraft model they were archived with.
+     * A window spanning the whole archive is answered from the carried-forward totals; any other
+     * window that overlaps it sums the archived rows by date.
+     */
+    public Map<String, FlightTotals> getFlightTotalsByModel(LocalDate from, LocalDate to) {
+        Map<String, FlightTotals> totals = new LinkedHashMap<>();
+        Span span = jdbcTemplate.queryForObject(
+                "SELECT MIN(date) AS first_date, MAX(date) AS last_date FROM flight_log_archive",
+                (rs, i) -> new Span(rs.getObject("first_date", LocalDate.class),
+                        rs.getObject("last_date", LocalDate.class)));
+        if (span == null || span.first() == null || to.isBefore(span.first()) || from.isAfter(span.last())) {
+            return totals;
+        }
+        RowCallbackHandler sum = rs -> totals.put(rs.getString("aircraft_model"), new FlightTotals(
+                rs.getLong("flights"), rs.getDouble("total_time"), rs.getDouble("pic_time"), rs.getDouble("sic_time"),
+                rs.getDouble("dual_received_time"), rs.getDouble("solo_time"), rs.getDouble("night_time"),
+                rs.getDouble("ifr_time"), rs.getDouble("cross_country_time"),
+                rs.getLong("day_landings"), rs.getLong("night_landings")));
+        if (!from.isAfter(span.first()) && !to.isBefore(span.last())) {
+            jdbcTemplate.query(SUM_CARRIED_FORWARD_SQL, sum);
+        } else {
+            jdbcTemplate.query(SUM_ARCHIVED_FLIGHTS_SQL, sum, from, to);
+        }
+        return totals;
+    }
+
+    /** Carried-forward totals of a pilot's archived flights, keyed by aircraft model. */
+    public Map<String, ArchivedTotals> getArchivedTotals(UUID pilotId) {
+        Map<String, ArchivedTotals> totals = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT * FROM archived_flight_totals WHERE pilot_id = ?", rs -> {
+            totals.put(rs.getString("aircraft_model"), new ArchivedTotals(
+                    rs.getDouble("total_time"), rs.getDouble("pic_time"), rs.getDouble("sic_time"),
+                    rs.getDouble("night_time"), rs.getDouble("ifr_time"), rs.getDouble("cross_country_time"),
+                    rs.getDouble("dual_received_time"), rs.getDouble("solo_time"),
+                    rs.getLong("day_landings"), rs.getLong("night_landings")));
+        }, pilotId);
+        return totals;
+    }
+
+    private record Span(LocalDate first, LocalDate last) {
+    }
+
+    public record ArchivedTotals(double totalTime, double picTime, double sicTime, double nightTime,
+            double ifrTime, double crossCountryTime, double dualReceivedTime, double soloTime,
+            long dayLandings, long nightLandings) {
+
+        public static final ArchivedTotals ZERO = new ArchivedTotals(0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        public ArchivedTotals plus(ArchivedTotals o) {
+            return new ArchivedTotals(totalTime + o.totalTime, picTime + o.picTime, sicTime + o.sicTime,
+                    nightTime + o.nightTime, ifrTime + o.ifrTime, crossCountryTime + o.crossCountryTime,
+                    dualReceivedTime + o.dualReceivedTime, soloTime + o.soloTime,
+                    dayLandings + o.dayLandings, nightLandings + o.nightLandings);
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private long archiveInBatches(String sql, LocalDate cutoff, Class<?> entityType) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        long total = 0;
+        List<UUID> moved;
+        do {
+            moved = tx.execute(status -> {
+                jdbcTemplate.queryForList("SELECT set_config('app.archiving', 'on', true)");
+                List<UUID> ids = jdbcTemplate.queryForList(sql, UUID.class, cutoff, batchSize);
+                invalidationBus.publishAll(Invalidation.removed(entityType, ids));
+                return ids;
+            });
+            if (moved == null || moved.isEmpty()) {
+                break;
+            }
+            searchIndexService.remove(moved);
+            columnStore.remove(moved);
+            total += moved.size();
+        } while (moved.size() == batchSize);
+        return total;
+    }
+
+    private static List<String> stringList(Array array) throws SQLException {
+        return array != null ? Arrays.asList((String[]) array.getArray()) : List.of();
+    }
+
+    private static Double nullableDouble(ResultSet rs, String column) throws SQLException {
+        double v = rs.getDouble(column);
+        return rs.wasNull() ? null : v;
+    }
+}
@@ -0,0 +1,35 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.dto.AuditEventResponse;
+import com.pilotlogbook.event.ChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read side of the audit trail written by {@code AuditWriter}.
+ * Changes committed in the last few hundred milliseconds may not be visible yet.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditTrailService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** History of one aircraft, flight log or maintenance record, newest first. */
+    public List<AuditEventResponse> getHistory(UUID entityId, int page, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        return jdbcTemplate.query(
+                "SELECT * FROM audit_events WHERE entity_id = ? ORDER BY occurred_at DESC, id DESC LIMIT ? OFFSET ?",
+                (rs, i) -> new AuditEventResponse(
+                        rs.getObject("id", UUID.class), rs.getTimestamp("occurred_at").toInstant(),
+                        rs.getString("actor"), rs.getString("entity_type"), rs.getObject("entity_id", UUID.class),
+                        ChangeType.valueOf(rs.getString("action")), rs.getString("changes")),
+                entityId, limit, (long) Math.max(0, page) * limit);
+    }
+}
@@ -1,18 +1,20 @@
 package com.pilotlogbook.service;
 
 import com.pilotlogbook.dto.*;
+import com.pilotlogbook.exception.InvalidTokenException;
+import com.pilotlogbook.model.RefreshToken;
 import com.pilotlogbook.model.User;
 import com.pilotlogbook.repository.UserRepository;
 import com.pilotlogbook.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -21,7 +23,8 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
-    private final UserDetailsService userDetailsService;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Transactional
     public AuthResponse register(RegisterRequest request) {
@@ -45,13 +48,10 @@ public class AuthService {
 
         userRepository.save(user);
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtTokenProvider.generateToken(userDetails);
-
-        return new AuthResponse(token, user.getId(), user.getName(),
-                user.getEmail(), user.getRole(), user.getAvatarInitials());
+        return issueTokens(user, UUID.randomUUID());
     }
 
+    /** Full credential check (BCrypt) — only needed to start a new session, not to renew one. */
     public AuthResponse login(LoginRequest request) {
         authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(request.email(), request.password()));
@@ -59,10 +59,38 @@ public class AuthService {
         User user = userRepository.findByEmail(request.email())
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(user.getEmail());
-        String token = jwtTokenProvider.generateToken(userDetails);
+        return issueTokens(user, UUID.randomUUID());
+    }
+
+    /** Exchanges a refresh token for a new access token and a rotated refresh token. */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public AuthResponse refresh(RefreshRequest request) {
+        RefreshToken current = refreshTokenService.consume(request.refreshToken());
+        return issueTokens(current.getUser(), current.getFamilyId());
+    }
+
+    /**
+     * Ends a session: the access token stops working on every node within milliseconds and
+     * the refresh token's family can no longer be rotated.
+     */
+    @Transactional
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken == null && refreshToken == null) {
+            throw new IllegalArgumentException("Nothing to log out: send the access token and/or refresh token");
+        }
+        if (accessToken != null) {
+            tokenRevocationService.revoke(accessToken);
+        }
+        if (refreshToken != null) {
+            refreshTokenService.revokeFamily(refreshToken);
+        }
+    }
+
+    private AuthResponse issueTokens(User user, UUID familyId) {
+        String accessToken = jwtTokenProvider.generateToken(user.getEmail());
+        String refreshToken = refreshTokenService.issue(user, familyId);
 
-        return new AuthResponse(token, user.getId(), user.getName(),
+        return new AuthResponse(accessToken, refreshToken, user.getId(), user.getName(),
                 user.getEmail(), user.getRole(), user.getAvatarInitials());
     }
 }
@@ -0,0 +1,222 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.columnar.FlightLogColumnStore;
+import com.pilotlogbook.columnar.FlightTotals;
+import com.pilotlogbook.datasource.AnalyticsWorkload;
+import com.pilotlogbook.dto.AircraftUtilizationResponse;
+import com.pilotlogbook.dto.FleetFlightTotalsResponse;
+import com.pilotlogbook.dto.ModelFlightTotalsResponse;
+import com.pilotlogbook.model.Aircraft;
+import com.pilotlogbook.model.enums.AircraftCategory;
+import com.pilotlogbook.repository.AircraftRepository;
+import com.pilotlogbook.repository.FlightLogEntryRepository;
+import com.pilotlogbook.repository.projection.ModelFlightTotalsRow;
+import com.pilotlogbook.repository.projection.UtilizationSample;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * Fleet-wide utilization and flight totals analytics.
+ * Utilization streams the flight log window once, buckets each row by aircraft into
+ * primitive columns, then reduces the columns in parallel on a fork/join pool.
+ */
+@Service
+@RequiredArgsConstructor
+public class FleetAnalyticsService {
+
+    private static final int DEFAULT_WINDOW_DAYS = 90;
+    private static final LocalDate EARLIEST_FLIGHT = LocalDate.of(1900, 1, 1);
+    private static final LocalDate LATEST_FLIGHT = LocalDate.of(9999, 12, 31);
+
+    private final FlightLogEntryRepository flightLogRepository;
+    private final AircraftRepository aircraftRepository;
+    private final FlightLogColumnStore columnStore;
+    private final ArchiveService archiveService;
+
+    private final ForkJoinPool reducePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    @AnalyticsWorkload
+    @Transactional(readOnly = true)
+    public List<AircraftUtilizationResponse> getUtilization(LocalDate from, LocalDate to, AircraftCategory category) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_WINDOW_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Window start " + start + " is after window end " + end);
+        }
+
+        List<Aircraft> fleet = category != null
+                ? aircraftRepository.findByCategory(category)
+                : aircraftRepository.findAll();
+        Map<UUID, Integer> slots = new HashMap<>(fleet.size() * 2);
+        for (int i = 0; i < fleet.size(); i++) {
+            slots.put(fleet.get(i).getId(), i);
+        }
+
+        SampleColumns columns = new SampleColumns();
+        try (Stream<UtilizationSample> samples = flightLogRepository.streamUtilizationSamples(start, end, category)) {
+            samples.forEach(s -> {
+                Integer slot = slots.get(s.aircraftId());
+                if (slot != null) {
+                    columns.add(slot, s.hours());
+                }
+            });
+        }
+
+        Totals totals = reducePool.invoke(new UtilizationTask(columns, 0, columns.size, fleet.size()));
+        long days = ChronoUnit.DAYS.between(start, end) + 1;
+
+        List<AircraftUtilizationResponse> result = new ArrayList<>(fleet.size());
+        for (int i = 0; i < fleet.size(); i++) {
+            Aircraft a = fleet.get(i);
+            int flights = totals.flights[i];
+            double hours = totals.hours[i];
+            result.add(new AircraftUtilizationResponse(
+                    a.getId(), a.getTailNumber(), a.getModel(), a.getCategory(),
+                    start, end,
+                    flights,
+                    round2(hours),
+                    round2(hours / days),
+                    round2(flights * 7.0 / days),
+                    flights > 0 ? round2(hours / flights) : 0.0));
+        }
+        result.sort(Comparator.comparingDouble(AircraftUtilizationResponse::hoursPerDay).reversed());
+        return result;
+    }
+
+    /**
+     * Flight totals across the fleet and per aircraft model for flights dated in the window
+     * (whole history by default), archived flights included. Hot flights are served from the
+     * column store, which falls back to the database while it is still loading.
+     */
+    @AnalyticsWorkload
+    public FleetFlightTotalsResponse getFlightTotals(LocalDate from, LocalDate to) {
+        LocalDate start = from != null ? from : EARLIEST_FLIGHT;
+        LocalDate end = to != null ? to : LATEST_FLIGHT;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("Window start " + start + " is after window end " + end);
+        }
+        Map<String, FlightTotals> byModel = new LinkedHashMap<>(columnStore.totalsByModel(start, end)
+                .orElseGet(() -> sumByModelFromDatabase(start, end)));
+        archiveService.getFlightTotalsByModel(start, end)
+                .forEach((model, t) -> byModel.merge(model, t, FlightTotals::plus));
+
+        FlightTotals fleet = byModel.values().stream().reduce(FlightTotals.ZERO, FlightTotals::plus);
+        List<ModelFlightTotalsResponse> models = byModel.entrySet().stream()
+                .map(e -> {
+                    FlightTotals t = e.getValue();
+                    return new ModelFlightTotalsResponse(e.getKey(), t.flights(), round1(t.totalTime()),
+                            round1(t.picTime()), round1(t.nightTime()), round1(t.ifrTime()),
+                            t.dayLandings() + t.nightLandings(),
+                            t.flights() > 0 ? round2(t.totalTime() / t.flights()) : 0.0);
+                })
+                .sorted(Comparator.comparingDouble(ModelFlightTotalsResponse::totalTime).reversed())
+                .toList();
+        return new FleetFlightTotalsResponse(from, to, fleet.flights(), round1(fleet.totalTime()),
+                round1(fleet.picTime()), round1(fleet.nightTime()), round1(fleet.ifrTime()),
+                round1(fleet.crossCountryTime()), fleet.dayLandings() + fleet.nightLandings(), models);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        reducePool.shutdown();
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private Map<String, FlightTotals> sumByModelFromDatabase(LocalDate from, LocalDate to) {
+        Map<String, FlightTotals> byModel = new LinkedHashMap<>();
+        for (ModelFlightTotalsRow r : flightLogRepository.sumByModel(from, to)) {
+            byModel.put(r.model(), new FlightTotals(r.flights(), r.totalTime(), r.picTime(), r.sicTime(),
+                    r.dualReceivedTime(), r.soloTime(), r.nightTime(), r.ifrTime(), r.crossCountryTime(),
+                    r.dayLandings(), r.nightLandings()));
+        }
+        return byModel;
+    }
+
+    private double round1(double v) {
+        return Math.round(v * 10.0) / 10.0;
+    }
+
+    private double round2(double v) {
+        return Math.round(v * 100.0) / 100.0;
+    }
+
+    /** Growable column pair: aircraft slot and flight hours per streamed row. */
+    private static final class SampleColumns {
+        private int[] slots = new int[1024];
+        private double[] hours = new double[1024];
+        private int size;
+
+        void add(int slot, double h) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+                hours = Arrays.copyOf(hours, size * 2);
+            }
+            slots[size] = slot;
+            hours[size] = h;
+            size++;
+        }
+    }
+
+    /** Per-aircraft partial sums, indexed by aircraft slot. */
+    private static final class Totals {
+        private final int[] flights;
+        private final double[] hours;
+
+        Totals(int aircraftCount) {
+            this.flights = new int[aircraftCount];
+            this.hours = new double[aircraftCount];
+        }
+
+        Totals merge(Totals other) {
+            for (int i = 0; i < flights.length; i++) {
+                flights[i] += other.flights[i];
+                hours[i] += other.hours[i];
+            }
+            return this;
+        }
+    }
+
+    private static final class UtilizationTask extends RecursiveTask<Totals> {
+        private static final int SEQUENTIAL_THRESHOLD = 64_000;
+
+        private final SampleColumns columns;
+        private final int from;
+        private final int to;
+        private final int aircraftCount;
+
+        UtilizationTask(SampleColumns columns, int from, int to, int aircraftCount) {
+            this.columns = columns;
+            this.from = from;
+            this.to = to;
+            this.aircraftCount = aircraftCount;
+        }
+
+        @Override
+        protected Totals compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                Totals totals = new Totals(aircraftCount);
+                for (int i = from; i < to; i++) {
+                    int slot = columns.slots[i];
+                    totals.flights[slot]++;
+                    totals.hours[slot] += columns.hours[i];
+                }
+                return totals;
+            }
+            int mid = (from + to) >>> 1;
+            UtilizationTask left = new UtilizationTask(columns, from, mid, aircraftCount);
+            left.fork();
+            Totals right = new UtilizationTask(columns, mid, to, aircraftCount).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.dto.FlightLogRequest;
+import com.pilotlogbook.dto.FlightLogResponse;
+import com.pilotlogbook.exception.ConflictException;
+import com.pilotlogbook.model.FlightLogEntry;
+import com.pilotlogbook.repository.FlightLogEntryRepository;
+import com.pilotlogbook.support.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Absorbs double-submitted and re-imported flights.
+ * Each entry carries a SHA-256 fingerprint of its natural key (unique in the database);
+ * a per-pilot Bloom filter answers "definitely new" without a query, and an
+ * {@code Idempotency-Key} replays the original response for retried requests.
+ */
+@Service
+@RequiredArgsConstructor
+public class FlightDeduplicationService {
+
+    private static final int MIN_FILTER_CAPACITY = 1024;
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+    private final FlightLogEntryRepository flightLogRepository;
+
+    @Value("${app.flights.dedupe.max-pilot-filters:10000}")
+    private int maxPilotFilters;
+
+    @Value("${app.flights.dedupe.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${app.flights.idempotency.max-entries:10000}")
+    private int maxIdempotencyEntries;
+
+    @Value("${app.flights.idempotency.ttl-ms:86400000}")
+    private long idempotencyTtlMs;
+
+    private Map<UUID, PilotFilter> filters;
+    private Map<String, IdempotentResponse> responses;
+
+    @PostConstruct
+    void init() {
+        filters = Collections.synchronizedMap(lru(maxPilotFilters));
+        responses = Collections.synchronizedMap(lru(maxIdempotencyEntries));
+    }
+
+    /** SHA-256 over pilot | aircraft | date | departure | arrival | total time (one decimal). */
+    public byte[] fingerprint(UUID pilotId, UUID aircraftId, LocalDate date,
+            int departureAirportId, int arrivalAirportId, double totalFlightTime) {
+        String key = pilotId + "|" + aircraftId + "|" + date + "|" + departureAirportId + "|"
+                + arrivalAirportId + "|" + String.format(Locale.ROOT, "%.1f", totalFlightTime);
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** The existing entry with this fingerprint; skips the query when the pilot's filter rules it out. */
+    public Optional<FlightLogEntry> findDuplicate(UUID pilotId, byte[] fingerprint) {
+        if (!filterFor(pilotId).filter().mightContain(fingerprint)) {
+            return Optional.empty();
+        }
+        return flightLogRepository.findByFingerprintAndLegacyDuplicateFalse(fingerprint);
+    }
+
+    public void remember(UUID pilotId, byte[] fingerprint) {
+        PilotFilter f = filterFor(pilotId);
+        f.filter().put(fingerprint);
+        if (f.added().incrementAndGet() > f.filter().expectedInsertions()) {
+            filters.remove(pilotId); // over capacity: reload at a larger size on next use
+        }
+    }
+
+    /** Drops the pilot's filter so the next check rebuilds it from the database. */
+    public void forget(UUID pilotId) {
+        filters.remove(pilotId);
+    }
+
+    /**
+     * Runs {@code action} once per (pilot, key) within the TTL and replays its response for retries.
+     * A retry arriving while the first request still runs waits for its outcome instead of running
+     * the action again. A key reused with a different request body is rejected.
+     */
+    public FlightLogResponse idempotent(UUID pilotId, String idempotencyKey, FlightLogRequest request,
+            Supplier<FlightLogResponse> action) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be at most "
+                    + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        String cacheKey = pilotId + ":" + idempotencyKey;
+        long now = System.currentTimeMillis();
+        IdempotentResponse mine = new IdempotentResponse(request, new CompletableFuture<>(), now + idempotencyTtlMs);
+        IdempotentResponse current = responses.compute(cacheKey,
+                (k, existing) -> existing != null && existing.expiresAt() > now ? existing : mine);
+        if (current != mine) {
+            if (!current.request().equals(request)) {
+                throw new ConflictException("Idempotency-Key was already used with a different request");
+            }
+            return await(current.response());
+        }
+        try {
+            FlightLogResponse response = action.get();
+            mine.response().complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            // a failed attempt leaves nothing to replay: the next retry runs the action again
+            responses.remove(cacheKey, mine);
+            mine.response().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private PilotFilter filterFor(UUID pilotId) {
+        PilotFilter f = filters.get(pilotId);
+        if (f == null) {
+            List<byte[]> existing = flightLogRepository.findFingerprintsByPilotId(pilotId);
+            BloomFilter filter = new BloomFilter(
+                    Math.max(MIN_FILTER_CAPACITY, existing.size() * 2), falsePositiveRate);
+            existing.forEach(filter::put);
+            f = new PilotFilter(filter, new AtomicInteger(existing.size()));
+            filters.put(pilotId, f);
+        }
+        return f;
+    }
+
+    private static FlightLogResponse await(CompletableFuture<FlightLogResponse> response) {
+        try {
+            return response.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static <K, V> Map<K, V> lru(int maxEntries) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private record PilotFilter(BloomFilter filter, AtomicInteger added) {
+    }
+
+    private record IdempotentResponse(FlightLogRequest request, CompletableFuture<FlightLogResponse> response,
+            long expiresAt) {
+    }
+}
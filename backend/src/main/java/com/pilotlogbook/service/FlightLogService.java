@@ -1,8 +1,15 @@
 package com.pilotlogbook.service;
 
+import com.pilotlogbook.columnar.FlightLogColumnStore;
+import com.pilotlogbook.columnar.FlightTotals;
+import com.pilotlogbook.columnar.PilotFlightSummary;
+import com.pilotlogbook.datasource.AnalyticsWorkload;
 import com.pilotlogbook.dto.FlightLogRequest;
 import com.pilotlogbook.dto.FlightLogResponse;
 import com.pilotlogbook.dto.PilotStatsResponse;
+import com.pilotlogbook.event.ChangeType;
+import com.pilotlogbook.event.EntityChangedEvent;
+import com.pilotlogbook.exception.ConflictException;
 import com.pilotlogbook.model.Aircraft;
 import com.pilotlogbook.model.FlightLogEntry;
 import com.pilotlogbook.model.User;
@@ -10,8 +17,13 @@ import com.pilotlogbook.repository.AircraftRepository;
 import com.pilotlogbook.repository.FlightLogEntryRepository;
 import com.pilotlogbook.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -20,15 +32,28 @@ import java.util.*;
 @RequiredArgsConstructor
 public class FlightLogService {
 
+    /** How far past the server's today a flight may be dated — covers pilots in time zones ahead of it. */
+    private static final int MAX_DAYS_AHEAD = 1;
+    private static final String FINGERPRINT_CONSTRAINT = "uq_flight_logs_fingerprint";
+
     private final FlightLogEntryRepository flightLogRepository;
     private final UserRepository userRepository;
     private final AircraftRepository aircraftRepository;
+    private final AirportService airportService;
+    private final MaintenanceForecastService forecastService;
+    private final LogbookCheckpointService checkpointService;
+    private final FlightDeduplicationService deduplicationService;
+    private final ArchiveService archiveService;
+    private final FlightLogColumnStore columnStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
     public List<FlightLogResponse> getLogsForPilot(UUID pilotId) {
         return flightLogRepository.findByPilotIdOrderByDateDesc(pilotId)
                 .stream().map(this::toResponse).toList();
     }
 
+    @AnalyticsWorkload
     public List<FlightLogResponse> getAllLogs() {
         return flightLogRepository.findAll(
                 org.springframework.data.domain.Sort.by(
@@ -40,49 +65,61 @@ public class FlightLogService {
         return toResponse(findOrThrow(id));
     }
 
-    @Transactional
+    /**
+     * Logs a flight, or returns the existing entry when the same flight is already logged.
+     * Two concurrent submissions can both pass the duplicate check — the Bloom filter of another
+     * node never saw this one's insert — so the loser of the unique fingerprint index gets the
+     * winner's entry too. Its own transaction rolls back first, hence no {@code @Transactional}.
+     */
     public FlightLogResponse create(UUID pilotId, FlightLogRequest request) {
-        User pilot = userRepository.findById(pilotId)
-                .orElseThrow(() -> new IllegalArgumentException("Pilot not found: " + pilotId));
-        Aircraft aircraft = aircraftRepository.findById(request.aircraftId())
-                .orElseThrow(() -> new IllegalArgumentException("Aircraft not found: " + request.aircraftId()));
-
-        FlightLogEntry entry = FlightLogEntry.builder()
-                .pilot(pilot)
-                .aircraft(aircraft)
-                .date(request.date())
-                .departureAirport(request.departureAirport())
-                .arrivalAirport(request.arrivalAirport())
-                .totalFlightTime(request.totalFlightTime())
-                .picTime(request.picTime())
-                .sicTime(request.sicTime())
-                .dualReceivedTime(request.dualReceivedTime())
-                .soloTime(request.soloTime())
-                .nightTime(request.nightTime())
-                .ifrTime(request.ifrTime())
-                .crossCountryTime(request.crossCountryTime())
-                .dayLandings(request.dayLandings())
-                .nightLandings(request.nightLandings())
-                .weatherCondition(request.weatherCondition())
-                .flightRule(request.flightRule())
-                .remarks(request.remarks())
-                .approachTypes(request.approachTypes())
-                .simulatorTime(request.simulatorTime())
-                .build();
-
-        return toResponse(flightLogRepository.save(entry));
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> insert(pilotId, request));
+        } catch (DataIntegrityViolationException e) {
+            if (!violates(e, FINGERPRINT_CONSTRAINT)) {
+                throw e;
+            }
+            byte[] fingerprint = deduplicationService.fingerprint(pilotId, request.aircraftId(), request.date(),
+                    airportService.resolveId(request.departureAirport()),
+                    airportService.resolveId(request.arrivalAirport()), request.totalFlightTime());
+            TransactionTemplate tx = new TransactionTemplate(transactionManager);
+            tx.setReadOnly(true);
+            return tx.execute(status -> flightLogRepository.findByFingerprintAndLegacyDuplicateFalse(fingerprint)
+                    .map(this::toResponse)
+                    .orElseThrow(() -> e));
+        }
     }
 
     @Transactional
     public FlightLogResponse update(UUID id, FlightLogRequest request) {
+        checkNotFuture(request.date());
         FlightLogEntry entry = findOrThrow(id);
         Aircraft aircraft = aircraftRepository.findById(request.aircraftId())
                 .orElseThrow(() -> new IllegalArgumentException("Aircraft not found: " + request.aircraftId()));
 
+        airportService.recordFlight(entry.getDepartureAirportId(), entry.getArrivalAirportId(),
+                entry.getTotalFlightTime(), -1);
+        forecastService.recordFlight(entry.getAircraft().getId(), entry.getDate(), entry.getTotalFlightTime(), -1);
+        checkpointService.recordFlight(entry, -1);
+
+        UUID pilotId = entry.getPilot().getId();
+        int departureId = airportService.resolveId(request.departureAirport());
+        int arrivalId = airportService.resolveId(request.arrivalAirport());
+        byte[] fingerprint = deduplicationService.fingerprint(pilotId, aircraft.getId(), request.date(),
+                departureId, arrivalId, request.totalFlightTime());
+        // compared with the key as it was, not the stored column: an unchanged key is never a new duplicate
+        byte[] previous = deduplicationService.fingerprint(pilotId, entry.getAircraft().getId(), entry.getDate(),
+                entry.getDepartureAirportId(), entry.getArrivalAirportId(), entry.getTotalFlightTime());
+        if (!Arrays.equals(fingerprint, previous)) {
+            deduplicationService.findDuplicate(pilotId, fingerprint).ifPresent(other -> {
+                throw new ConflictException("Duplicate of flight log " + other.getId());
+            });
+            entry.setLegacyDuplicate(false);
+        }
+
         entry.setAircraft(aircraft);
         entry.setDate(request.date());
-        entry.setDepartureAirport(request.departureAirport());
-        entry.setArrivalAirport(request.arrivalAirport());
+        entry.setDepartureAirportId(departureId);
+        entry.setArrivalAirportId(arrivalId);
         entry.setTotalFlightTime(request.totalFlightTime());
         entry.setPicTime(request.picTime());
         entry.setSicTime(request.sicTime());
@@ -98,64 +135,149 @@ public class FlightLogService {
         entry.setRemarks(request.remarks());
         entry.setApproachTypes(request.approachTypes());
         entry.setSimulatorTime(request.simulatorTime());
+        entry.setFingerprint(fingerprint);
 
-        return toResponse(flightLogRepository.save(entry));
+        FlightLogEntry saved = flightLogRepository.save(entry);
+        deduplicationService.remember(pilotId, fingerprint);
+        airportService.recordFlight(saved.getDepartureAirportId(), saved.getArrivalAirportId(),
+                saved.getTotalFlightTime(), 1);
+        forecastService.recordFlight(aircraft.getId(), saved.getDate(), saved.getTotalFlightTime(), 1);
+        checkpointService.recordFlight(saved, 1);
+        eventPublisher.publishEvent(new EntityChangedEvent(saved, ChangeType.UPDATED));
+        return toResponse(saved);
     }
 
     @Transactional
     public void delete(UUID id) {
-        flightLogRepository.delete(findOrThrow(id));
+        FlightLogEntry entry = findOrThrow(id);
+        flightLogRepository.delete(entry);
+        airportService.recordFlight(entry.getDepartureAirportId(), entry.getArrivalAirportId(),
+                entry.getTotalFlightTime(), -1);
+        forecastService.recordFlight(entry.getAircraft().getId(), entry.getDate(), entry.getTotalFlightTime(), -1);
+        checkpointService.recordFlight(entry, -1);
+        eventPublisher.publishEvent(new EntityChangedEvent(entry, ChangeType.DELETED));
     }
 
     /**
      * Mirror of the frontend FlightLogService.calculatePilotStats().
-     * Aggregates all flight-hour metrics for a given pilot.
+     * Aggregates all flight-hour metrics for a given pilot from the column store (or the
+     * database while it loads); lifetime totals include the carried-forward totals of
+     * archived flights.
      */
     public PilotStatsResponse getPilotStats(UUID pilotId) {
-        List<FlightLogEntry> logs = flightLogRepository.findByPilotIdOrderByDateDesc(pilotId);
         LocalDate now = LocalDate.now();
-        LocalDate d30 = now.minusDays(30);
-        LocalDate d90 = now.minusDays(90);
-        LocalDate d365 = now.minusDays(365);
+        PilotFlightSummary hot = columnStore.pilotSummary(pilotId, now)
+                .orElseGet(() -> summarize(flightLogRepository.findByPilotIdOrderByDateDesc(pilotId), now));
+        Map<String, ArchiveService.ArchivedTotals> archived = archiveService.getArchivedTotals(pilotId);
 
-        Map<String, Double> byCategory = new LinkedHashMap<>();
-        for (FlightLogEntry l : logs) {
-            String key = l.getAircraft().getModel();
-            byCategory.merge(key, l.getTotalFlightTime(), Double::sum);
-        }
+        Map<String, Double> byCategory = new LinkedHashMap<>(hot.totalTimeByModel());
+        archived.forEach((model, t) -> byCategory.merge(model, t.totalTime(), Double::sum));
         byCategory.replaceAll((k, v) -> round1(v));
 
+        ArchiveService.ArchivedTotals carried = archived.values().stream()
+                .reduce(ArchiveService.ArchivedTotals.ZERO, ArchiveService.ArchivedTotals::plus);
+        FlightTotals t = hot.lifetime();
         return new PilotStatsResponse(
-                round1(sum(logs, "totalFlightTime")),
-                round1(sum(logs, "picTime")),
-                round1(sum(logs, "sicTime")),
-                round1(sum(logs, "nightTime")),
-                round1(sum(logs, "ifrTime")),
-                round1(sum(logs, "crossCountryTime")),
-                round1(sum(logs, "dualReceivedTime")),
-                round1(sum(logs, "soloTime")),
-                logs.stream().mapToInt(l -> l.getDayLandings() + l.getNightLandings()).sum(),
-                logs.stream().mapToInt(FlightLogEntry::getNightLandings).sum(),
-                round1(filterAndSum(logs, d30)),
-                round1(filterAndSum(logs, d90)),
-                round1(filterAndSum(logs, d365)),
+                round1(t.totalTime() + carried.totalTime()),
+                round1(t.picTime() + carried.picTime()),
+                round1(t.sicTime() + carried.sicTime()),
+                round1(t.nightTime() + carried.nightTime()),
+                round1(t.ifrTime() + carried.ifrTime()),
+                round1(t.crossCountryTime() + carried.crossCountryTime()),
+                round1(t.dualReceivedTime() + carried.dualReceivedTime()),
+                round1(t.soloTime() + carried.soloTime()),
+                (int) (t.dayLandings() + t.nightLandings() + carried.dayLandings() + carried.nightLandings()),
+                (int) (t.nightLandings() + carried.nightLandings()),
+                round1(hot.last30Days()),
+                round1(hot.last90Days()),
+                round1(hot.lastYear()),
                 byCategory);
     }
 
     // ─── Helpers ──────────────────────────────────────────────────────────────
 
-    private double sum(List<FlightLogEntry> logs, String field) {
-        return logs.stream().mapToDouble(l -> switch (field) {
-            case "totalFlightTime" -> l.getTotalFlightTime();
-            case "picTime" -> l.getPicTime();
-            case "sicTime" -> l.getSicTime();
-            case "nightTime" -> l.getNightTime();
-            case "ifrTime" -> l.getIfrTime();
-            case "crossCountryTime" -> l.getCrossCountryTime();
-            case "dualReceivedTime" -> l.getDualReceivedTime();
-            case "soloTime" -> l.getSoloTime();
-            default -> 0;
-        }).sum();
+    private FlightLogResponse insert(UUID pilotId, FlightLogRequest request) {
+        checkNotFuture(request.date());
+        User pilot = userRepository.findById(pilotId)
+                .orElseThrow(() -> new IllegalArgumentException("Pilot not found: " + pilotId));
+        Aircraft aircraft = aircraftRepository.findById(request.aircraftId())
+                .orElseThrow(() -> new IllegalArgumentException("Aircraft not found: " + request.aircraftId()));
+
+        int departureId = airportService.resolveId(request.departureAirport());
+        int arrivalId = airportService.resolveId(request.arrivalAirport());
+        byte[] fingerprint = deduplicationService.fingerprint(pilotId, aircraft.getId(), request.date(),
+                departureId, arrivalId, request.totalFlightTime());
+        Optional<FlightLogEntry> duplicate = deduplicationService.findDuplicate(pilotId, fingerprint);
+        if (duplicate.isPresent()) {
+            return toResponse(duplicate.get());
+        }
+
+        FlightLogEntry entry = FlightLogEntry.builder()
+                .pilot(pilot)
+                .aircraft(aircraft)
+                .date(request.date())
+                .departureAirportId(departureId)
+                .arrivalAirportId(arrivalId)
+                .totalFlightTime(request.totalFlightTime())
+                .picTime(request.picTime())
+                .sicTime(request.sicTime())
+                .dualReceivedTime(request.dualReceivedTime())
+                .soloTime(request.soloTime())
+                .nightTime(request.nightTime())
+                .ifrTime(request.ifrTime())
+                .crossCountryTime(request.crossCountryTime())
+                .dayLandings(request.dayLandings())
+                .nightLandings(request.nightLandings())
+                .weatherCondition(request.weatherCondition())
+                .flightRule(request.flightRule())
+                .remarks(request.remarks())
+                .approachTypes(request.approachTypes())
+                .simulatorTime(request.simulatorTime())
+                .fingerprint(fingerprint)
+                .build();
+
+        // flushed here so a lost fingerprint race fails before any derived state is touched
+        FlightLogEntry saved = flightLogRepository.saveAndFlush(entry);
+        deduplicationService.remember(pilotId, fingerprint);
+        airportService.recordFlight(saved.getDepartureAirportId(), saved.getArrivalAirportId(),
+                saved.getTotalFlightTime(), 1);
+        forecastService.recordFlight(aircraft.getId(), saved.getDate(), saved.getTotalFlightTime(), 1);
+        checkpointService.recordFlight(saved, 1);
+        eventPublisher.publishEvent(new EntityChangedEvent(saved, ChangeType.CREATED));
+        return toResponse(saved);
+    }
+
+    /** Utilization samples are added and removed at the flight's own date, so it can't be ahead of today. */
+    private static void checkNotFuture(LocalDate date) {
+        if (date.isAfter(LocalDate.now().plusDays(MAX_DAYS_AHEAD))) {
+            throw new IllegalArgumentException("Flight date is in the future: " + date);
+        }
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraint) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof ConstraintViolationException cve) {
+                return constraint.equalsIgnoreCase(cve.getConstraintName());
+            }
+        }
+        return false;
+    }
+
+    /** Database fallback for {@link #getPilotStats} while the column store is loading. */
+    private PilotFlightSummary summarize(List<FlightLogEntry> logs, LocalDate now) {
+        Map<String, Double> byModel = new LinkedHashMap<>();
+        FlightTotals lifetime = FlightTotals.ZERO;
+        for (FlightLogEntry l : logs) {
+            byModel.merge(l.getAircraft().getModel(), l.getTotalFlightTime(), Double::sum);
+            lifetime = lifetime.plus(new FlightTotals(1, l.getTotalFlightTime(), l.getPicTime(), l.getSicTime(),
+                    l.getDualReceivedTime(), l.getSoloTime(), l.getNightTime(), l.getIfrTime(),
+                    l.getCrossCountryTime(), l.getDayLandings(), l.getNightLandings()));
+        }
+        return new PilotFlightSummary(lifetime,
+                filterAndSum(logs, now.minusDays(30)),
+                filterAndSum(logs, now.minusDays(90)),
+                filterAndSum(logs, now.minusDays(365)),
+                byModel);
     }
 
     private double filterAndSum(List<FlightLogEntry> logs, LocalDate from) {
@@ -174,12 +296,13 @@ public class FlightLogService {
                 .orElseThrow(() -> new IllegalArgumentException("Flight log not found: " + id));
     }
 
-    private FlightLogResponse toResponse(FlightLogEntry e) {
+    FlightLogResponse toResponse(FlightLogEntry e) {
         return new FlightLogResponse(
                 e.getId(),
                 e.getPilot().getId(), e.getPilot().getName(),
                 e.getAircraft().getId(), e.getAircraft().getTailNumber(), e.getAircraft().getModel(),
-                e.getDate(), e.getDepartureAirport(), e.getArrivalAirport(),
+                e.getDate(),
+                airportService.codeOf(e.getDepartureAirportId()), airportService.codeOf(e.getArrivalAirportId()),
                 e.getTotalFlightTime(), e.getPicTime(), e.getSicTime(),
                 e.getDualReceivedTime(), e.getSoloTime(), e.getNightTime(),
                 e.getIfrTime(), e.getCrossCountryTime(),
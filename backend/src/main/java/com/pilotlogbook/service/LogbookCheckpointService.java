@@ -0,0 +1,204 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.dto.CheckpointVerificationResponse;
+import com.pilotlogbook.dto.FlightTotalsResponse;
+import com.pilotlogbook.model.FlightLogEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Per-pilot carried-forward totals, one cumulative row per day with flights.
+ * A date-range total is two primary-key lookups and a subtraction. Every flight log write
+ * applies its delta to its own day and every later day, under a per-pilot advisory lock.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LogbookCheckpointService {
+
+    private static final String COLUMNS = "flights, total_time, pic_time, sic_time, dual_received_time, "
+            + "solo_time, night_time, ifr_time, cross_country_time, day_landings, night_landings";
+
+    /** Seeds a missing day with the totals carried forward from the previous checkpoint. */
+    private static final String SEED_DAY_SQL = "INSERT INTO pilot_log_checkpoints (pilot_id, date, " + COLUMNS + ") "
+            + "SELECT ?, ?, " + prefixed("COALESCE(p.", ", 0)") + " "
+            + "FROM (SELECT 1) one LEFT JOIN LATERAL ("
+            + "  SELECT " + COLUMNS + " FROM pilot_log_checkpoints "
+            + "  WHERE pilot_id = ? AND date < ? ORDER BY date DESC LIMIT 1) p ON true "
+            + "ON CONFLICT (pilot_id, date) DO NOTHING";
+
+    private static final String APPLY_DELTA_SQL = "UPDATE pilot_log_checkpoints SET "
+            + "flights = flights + ?, total_time = total_time + CAST(? AS numeric), "
+            + "pic_time = pic_time + CAST(? AS numeric), sic_time = sic_time + CAST(? AS numeric), "
+            + "dual_received_time = dual_received_time + CAST(? AS numeric), solo_time = solo_time + CAST(? AS numeric), "
+            + "night_time = night_time + CAST(? AS numeric), ifr_time = ifr_time + CAST(? AS numeric), "
+            + "cross_country_time = cross_country_time + CAST(? AS numeric), "
+            + "day_landings = day_landings + ?, night_landings = night_landings + ? "
+            + "WHERE pilot_id = ? AND date >= ?";
+
+    private static final String AS_OF_SQL = "SELECT " + COLUMNS + " FROM pilot_log_checkpoints "
+            + "WHERE pilot_id = ? AND date <= ? ORDER BY date DESC LIMIT 1";
+
+    private static final String EXPECTED_CTE = "WITH daily AS ("
+            + "  SELECT date, COUNT(*) AS flights, SUM(total_flight_time) AS total_time, SUM(pic_time) AS pic_time, "
+            + "         SUM(sic_time) AS sic_time, SUM(dual_received_time) AS dual_received_time, "
+            + "         SUM(solo_time) AS solo_time, SUM(night_time) AS night_time, SUM(ifr_time) AS ifr_time, "
+            + "         SUM(cross_country_time) AS cross_country_time, SUM(day_landings) AS day_landings, "
+            + "         SUM(night_landings) AS night_landings "
+            + "  FROM (SELECT date, total_flight_time, pic_time, sic_time, dual_received_time, solo_time, "
+            + "               night_time, ifr_time, cross_country_time, day_landings, night_landings "
+            + "        FROM flight_log_entries WHERE pilot_id = ? "
+            + "        UNION ALL "
+            + "        SELECT date, total_flight_time, pic_time, sic_time, dual_received_time, solo_time, "
+            + "               night_time, ifr_time, cross_country_time, day_landings, night_landings "
+            + "        FROM flight_log_archive WHERE pilot_id = ?) f "
+            + "  GROUP BY date), "
+            + "days AS (SELECT date FROM daily UNION SELECT date FROM pilot_log_checkpoints WHERE pilot_id = ?), "
+            + "expected AS ("
+            + "  SELECT d.date, " + windowed() + " "
+            + "  FROM days d LEFT JOIN daily x ON x.date = d.date "
+            + "  WINDOW w AS (ORDER BY d.date)) ";
+
+    private static final String VERIFY_SQL = EXPECTED_CTE
+            + "SELECT COUNT(*) AS mismatches, MIN(e.date) AS first_mismatch "
+            + "FROM expected e LEFT JOIN pilot_log_checkpoints c ON c.pilot_id = ? AND c.date = e.date "
+            + "WHERE c.date IS NULL OR (" + mismatch() + ")";
+
+    private static final String REBUILD_SQL = EXPECTED_CTE
+            + "INSERT INTO pilot_log_checkpoints (pilot_id, date, " + COLUMNS + ") "
+            + "SELECT ?, date, " + COLUMNS + " FROM expected";
+
+    private static final RowMapper<Totals> TOTALS_MAPPER = (rs, i) -> new Totals(
+            rs.getLong("flights"), rs.getDouble("total_time"), rs.getDouble("pic_time"),
+            rs.getDouble("sic_time"), rs.getDouble("dual_received_time"), rs.getDouble("solo_time"),
+            rs.getDouble("night_time"), rs.getDouble("ifr_time"), rs.getDouble("cross_country_time"),
+            rs.getLong("day_landings"), rs.getLong("night_landings"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Applies a flight (sign = 1) or its removal (sign = -1) to its day and every later checkpoint. */
+    @Transactional
+    public void recordFlight(FlightLogEntry e, int sign) {
+        UUID pilotId = e.getPilot().getId();
+        lock(pilotId);
+        jdbcTemplate.update(SEED_DAY_SQL, pilotId, e.getDate(), pilotId, e.getDate());
+        jdbcTemplate.update(APPLY_DELTA_SQL,
+                sign, sign * e.getTotalFlightTime(), sign * e.getPicTime(), sign * e.getSicTime(),
+                sign * e.getDualReceivedTime(), sign * e.getSoloTime(), sign * e.getNightTime(),
+                sign * e.getIfrTime(), sign * e.getCrossCountryTime(),
+                sign * e.getDayLandings(), sign * e.getNightLandings(),
+                pilotId, e.getDate());
+    }
+
+    /** Totals for flights dated within [from, to]; either bound may be open. */
+    @Transactional(readOnly = true)
+    public FlightTotalsResponse getTotals(UUID pilotId, LocalDate from, LocalDate to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        Totals upper = asOf(pilotId, to != null ? to : LocalDate.MAX);
+        Totals lower = from != null ? asOf(pilotId, from.minusDays(1)) : Totals.ZERO;
+        Totals t = upper.minus(lower);
+
+        return new FlightTotalsResponse(pilotId, from, to, t.flights(),
+                round1(t.totalTime()), round1(t.picTime()), round1(t.sicTime()),
+                round1(t.dualReceivedTime()), round1(t.soloTime()), round1(t.nightTime()),
+                round1(t.ifrTime()), round1(t.crossCountryTime()),
+                t.dayLandings(), t.nightLandings());
+    }
+
+    /**
+     * Recomputes the pilot's running totals from hot and archived flights and compares them with
+     * the stored checkpoints; with {@code repair} any drift is fixed by rebuilding the pilot's rows.
+     */
+    @Transactional
+    public CheckpointVerificationResponse verify(UUID pilotId, boolean repair) {
+        lock(pilotId);
+        Mismatch m = jdbcTemplate.queryForObject(VERIFY_SQL,
+                (rs, i) -> new Mismatch(rs.getInt("mismatches"), toLocalDate(rs.getDate("first_mismatch"))),
+                pilotId, pilotId, pilotId, pilotId);
+
+        boolean repaired = false;
+        if (m != null && m.count() > 0) {
+            log.warn("Pilot {} has {} inconsistent checkpoint days from {}", pilotId, m.count(), m.first());
+            if (repair) {
+                jdbcTemplate.update("DELETE FROM pilot_log_checkpoints WHERE pilot_id = ?", pilotId);
+                jdbcTemplate.update(REBUILD_SQL, pilotId, pilotId, pilotId, pilotId);
+                repaired = true;
+            }
+        }
+        return new CheckpointVerificationResponse(pilotId,
+                m != null ? m.count() : 0, m != null ? m.first() : null, repaired);
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private void lock(UUID pilotId) {
+        jdbcTemplate.queryForList("SELECT pg_advisory_xact_lock(hashtext('pilot_log_checkpoints'), hashtext(?))",
+                pilotId.toString());
+    }
+
+    private Totals asOf(UUID pilotId, LocalDate date) {
+        List<Totals> rows = jdbcTemplate.query(AS_OF_SQL, TOTALS_MAPPER, pilotId, date);
+        return rows.isEmpty() ? Totals.ZERO : rows.get(0);
+    }
+
+    private static String prefixed(String prefix, String suffix) {
+        StringBuilder sb = new StringBuilder();
+        for (String col : COLUMNS.split(", ")) {
+            sb.append(sb.isEmpty() ? "" : ", ").append(prefix).append(col).append(suffix);
+        }
+        return sb.toString();
+    }
+
+    private static String windowed() {
+        StringBuilder sb = new StringBuilder();
+        for (String col : COLUMNS.split(", ")) {
+            sb.append(sb.isEmpty() ? "" : ", ")
+                    .append("SUM(COALESCE(x.").append(col).append(", 0)) OVER w AS ").append(col);
+        }
+        return sb.toString();
+    }
+
+    private static String mismatch() {
+        StringBuilder sb = new StringBuilder();
+        for (String col : COLUMNS.split(", ")) {
+            sb.append(sb.isEmpty() ? "" : " OR ").append("c.").append(col).append(" <> e.").append(col);
+        }
+        return sb.toString();
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    private double round1(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+
+    private record Mismatch(int count, LocalDate first) {
+    }
+
+    private record Totals(long flights, double totalTime, double picTime, double sicTime,
+            double dualReceivedTime, double soloTime, double nightTime, double ifrTime,
+            double crossCountryTime, long dayLandings, long nightLandings) {
+
+        static final Totals ZERO = new Totals(0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+
+        Totals minus(Totals o) {
+            return new Totals(flights - o.flights, totalTime - o.totalTime, picTime - o.picTime,
+                    sicTime - o.sicTime, dualReceivedTime - o.dualReceivedTime, soloTime - o.soloTime,
+                    nightTime - o.nightTime, ifrTime - o.ifrTime, crossCountryTime - o.crossCountryTime,
+                    dayLandings - o.dayLandings, nightLandings - o.nightLandings);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.datasource.AnalyticsWorkload;
+import com.pilotlogbook.dto.MaintenanceForecastResponse;
+import com.pilotlogbook.model.Aircraft;
+import com.pilotlogbook.model.AircraftUtilization;
+import com.pilotlogbook.model.MaintenanceRecord;
+import com.pilotlogbook.model.enums.MaintenanceStatus;
+import com.pilotlogbook.repository.AircraftUtilizationRepository;
+import com.pilotlogbook.repository.MaintenanceRecordRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Projects calendar dates for hour-based maintenance items from each aircraft's recent utilization.
+ * Utilization is an exponentially weighted hours-per-day rate with a configurable half-life,
+ * adjusted in the same transaction as every flight log write — forecasting reads one row per
+ * aircraft and never touches flight history.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MaintenanceForecastService {
+
+    private static final List<MaintenanceStatus> PENDING =
+            List.of(MaintenanceStatus.DUE, MaintenanceStatus.OVERDUE, MaintenanceStatus.IN_PROGRESS);
+
+    /** Below this rate an aircraft is effectively parked and no date is projected. */
+    private static final double MIN_HOURS_PER_DAY = 0.01;
+
+    private final AircraftUtilizationRepository utilizationRepository;
+    private final MaintenanceRecordRepository maintenanceRecordRepository;
+
+    @Value("${app.forecast.half-life-days:30}")
+    private double halfLifeDays;
+
+    private double decay;
+    private double alpha;
+
+    @PostConstruct
+    void init() {
+        if (halfLifeDays <= 0) {
+            throw new IllegalStateException("app.forecast.half-life-days must be positive");
+        }
+        decay = Math.pow(0.5, 1.0 / halfLifeDays);
+        alpha = 1.0 - decay;
+    }
+
+    /** Applies a flight (sign = 1) or its removal (sign = -1) to the aircraft's utilization rate. */
+    @Transactional
+    public void recordFlight(UUID aircraftId, LocalDate date, double hours, int sign) {
+        utilizationRepository.applySample(aircraftId, date, sign * alpha * hours, decay);
+    }
+
+    /** Hours-per-day for every aircraft with logged flights, decayed forward to {@code today}. */
+    @Transactional(readOnly = true)
+    public Map<UUID, Double> currentRates(LocalDate today) {
+        List<AircraftUtilization> rows = utilizationRepository.findAll();
+        Map<UUID, Double> rates = new HashMap<>(rows.size() * 2);
+        for (AircraftUtilization u : rows) {
+            long idle = Math.max(0, ChronoUnit.DAYS.between(u.getAsOf(), today));
+            rates.put(u.getAircraftId(), Math.max(0.0, u.getHoursPerDay() * Math.pow(decay, idle)));
+        }
+        return rates;
+    }
+
+    /**
+     * Calendar date on which {@code hoursRemaining} will be flown at {@code hoursPerDay},
+     * or {@code null} when the aircraft isn't flying enough to project one.
+     */
+    public LocalDate projectDueDate(double hoursRemaining, Double hoursPerDay, LocalDate today) {
+        if (hoursRemaining <= 0) {
+            return today;
+        }
+        if (hoursPerDay == null || hoursPerDay < MIN_HOURS_PER_DAY) {
+            return null;
+        }
+        return today.plusDays((long) Math.ceil(hoursRemaining / hoursPerDay));
+    }
+
+    /** Hour-based pending items with their projected date, earliest effective due date first. */
+    @AnalyticsWorkload
+    @Transactional(readOnly = true)
+    public List<MaintenanceForecastResponse> getForecast() {
+        LocalDate today = LocalDate.now();
+        Map<UUID, Double> rates = currentRates(today);
+
+        return maintenanceRecordRepository.findByStatusIn(PENDING).stream()
+                .filter(r -> r.getNextDueHours() != null)
+                .map(r -> toForecast(r, rates, today))
+                .sorted(Comparator.comparing(MaintenanceForecastResponse::effectiveDueDate,
+                        Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+    }
+
+    /** Recomputes every rate from flight history, e.g. after changing the half-life. */
+    @Transactional
+    public int rebuild() {
+        int rows = utilizationRepository.rebuildFromHistory(alpha, halfLifeDays);
+        int dropped = utilizationRepository.deleteWithoutFlights();
+        log.info("Rebuilt utilization rates for {} aircraft, dropped {} without flights (half-life {} days)",
+                rows, dropped, halfLifeDays);
+        return rows;
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private MaintenanceForecastResponse toForecast(MaintenanceRecord r, Map<UUID, Double> rates, LocalDate today) {
+        Aircraft ac = r.getAircraft();
+        double hoursRemaining = r.getNextDueHours() - ac.getTotalAirframeHours();
+        Double rate = rates.get(ac.getId());
+        LocalDate projected = projectDueDate(hoursRemaining, rate, today);
+        LocalDate effective = projected == null ? r.getNextDueDate()
+                : r.getNextDueDate() == null || projected.isBefore(r.getNextDueDate()) ? projected
+                : r.getNextDueDate();
+
+        return new MaintenanceForecastResponse(r.getId(), ac.getId(), ac.getTailNumber(),
+                r.getCheckType(), r.getStatus(),
+                round1(hoursRemaining),
+                rate != null ? Math.round(rate * 100.0) / 100.0 : 0.0,
+                projected, r.getNextDueDate(), effective);
+    }
+
+    private double round1(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
@@ -0,0 +1,257 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.audit.AuditEventListener;
+import com.pilotlogbook.dto.ScheduleJobResponse;
+import com.pilotlogbook.exception.ConflictException;
+import com.pilotlogbook.invalidation.Invalidation;
+import com.pilotlogbook.invalidation.InvalidationBus;
+import com.pilotlogbook.model.MaintenanceRecord;
+import com.pilotlogbook.model.enums.MaintenanceCheckType;
+import com.pilotlogbook.model.enums.MaintenanceStatus;
+import com.pilotlogbook.repository.projection.MaintenanceTextRow;
+import com.pilotlogbook.search.SearchIndexService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Generates the next due record for every recurring check across the fleet.
+ * The latest COMPLETED record per aircraft and check type is rolled forward by its interval;
+ * aircraft that already have an open record of that type are skipped, so re-running is a no-op.
+ * Aircraft are walked in id-keyset chunks, each committed in its own short transaction with one
+ * set-based INSERT … SELECT … RETURNING per check type.
+ * <p>
+ * The inserts bypass Hibernate, so each chunk publishes the invalidations a service-layer create
+ * would, and once committed indexes and audits the new records itself. Run progress lives in
+ * {@code maintenance_schedule_jobs}, so every node can report it and only one run is active
+ * across the cluster.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MaintenanceScheduleService {
+
+    private static final List<RecurringRule> RULES = List.of(
+            new RecurringRule(MaintenanceCheckType.ANNUAL, 12, null),
+            new RecurringRule(MaintenanceCheckType.HUNDRED_HOUR, null, 100.0),
+            new RecurringRule(MaintenanceCheckType.FIFTY_HOUR, null, 50.0));
+
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    private static final int MAX_RETAINED_JOBS = 20;
+
+    private static final String GENERATE_SQL = """
+            INSERT INTO maintenance_records
+                (aircraft_id, check_type, status, scheduled_date, hours_at_check, next_due_hours, next_due_date)
+            SELECT last.aircraft_id, last.check_type, 'DUE', COALESCE(last.next_date, CURRENT_DATE),
+                   0, last.next_hours, last.next_date
+            FROM (
+                SELECT DISTINCT ON (m.aircraft_id)
+                       m.aircraft_id, m.check_type,
+                       m.hours_at_check + CAST(? AS numeric) AS next_hours,
+                       CAST(COALESCE(m.completed_date, m.scheduled_date)
+                            + CAST(? AS integer) * INTERVAL '1 month' AS date) AS next_date
+                FROM maintenance_records m
+                WHERE m.check_type = CAST(? AS maintenance_check_type)
+                  AND m.status = 'COMPLETED'
+                  AND m.aircraft_id > ? AND m.aircraft_id <= ?
+                ORDER BY m.aircraft_id, COALESCE(m.completed_date, m.scheduled_date) DESC, m.hours_at_check DESC
+            ) last
+            WHERE NOT EXISTS (
+                SELECT 1 FROM maintenance_records o
+                WHERE o.aircraft_id = last.aircraft_id
+                  AND o.check_type = last.check_type
+                  AND o.status <> 'COMPLETED')
+            RETURNING id, aircraft_id, scheduled_date, next_due_hours, next_due_date
+            """;
+
+    private static final String ABANDON_STALE_SQL = """
+            UPDATE maintenance_schedule_jobs SET status = 'ABANDONED', finished_at = now()
+            WHERE status = 'RUNNING' AND heartbeat_at < now() - make_interval(secs => ?)
+            """;
+
+    private static final String PRUNE_SQL = """
+            DELETE FROM maintenance_schedule_jobs
+            WHERE id NOT IN (SELECT id FROM maintenance_schedule_jobs ORDER BY started_at DESC LIMIT ?)
+            """;
+
+    private static final String PROGRESS_SQL = """
+            UPDATE maintenance_schedule_jobs
+            SET processed_aircraft = processed_aircraft + ?, records_created = records_created + ?,
+                chunks_completed = chunks_completed + 1, heartbeat_at = now()
+            WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final InvalidationBus invalidationBus;
+    private final AuditEventListener auditEventListener;
+    private final SearchIndexService searchIndexService;
+
+    @Value("${app.maintenance.schedule.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${app.maintenance.schedule.chunk-timeout-seconds:60}")
+    private int chunkTimeoutSeconds;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "maintenance-schedule");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /** Starts a generation run in the background; only one run may be active across the cluster. */
+    public ScheduleJobResponse start() {
+        UUID jobId = new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('maintenance-schedule-jobs'))");
+            // A run's heartbeat moves at least once per chunk, and a chunk can't outlive its timeout
+            jdbcTemplate.update(ABANDON_STALE_SQL, 2 * chunkTimeoutSeconds);
+            Boolean busy = jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM maintenance_schedule_jobs WHERE status = 'RUNNING')",
+                    Boolean.class);
+            if (Boolean.TRUE.equals(busy)) {
+                throw new ConflictException("A schedule generation job is already running");
+            }
+            UUID id = jdbcTemplate.queryForObject(
+                    "INSERT INTO maintenance_schedule_jobs (status) VALUES ('RUNNING') RETURNING id", UUID.class);
+            jdbcTemplate.update(PRUNE_SQL, MAX_RETAINED_JOBS);
+            return id;
+        });
+        executor.execute(() -> run(jobId));
+        return getJob(jobId);
+    }
+
+    public ScheduleJobResponse getJob(UUID jobId) {
+        return jdbcTemplate.query("SELECT * FROM maintenance_schedule_jobs WHERE id = ?",
+                        MaintenanceScheduleService::toResponse, jobId)
+                .stream().findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Schedule job not found: " + jobId));
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private void run(UUID jobId) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setTimeout(chunkTimeoutSeconds);
+        long processed = 0;
+        long created = 0;
+        try {
+            jdbcTemplate.update("""
+                    UPDATE maintenance_schedule_jobs
+                    SET total_aircraft = (SELECT COUNT(*) FROM aircraft), heartbeat_at = now()
+                    WHERE id = ?
+                    """, jobId);
+
+            UUID lower = MIN_UUID;
+            while (true) {
+                List<UUID> ids = jdbcTemplate.queryForList(
+                        "SELECT id FROM aircraft WHERE id > ? ORDER BY id LIMIT ?", UUID.class, lower, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                UUID from = lower;
+                UUID upper = ids.get(ids.size() - 1);
+                List<GeneratedRecord> records = tx.execute(status -> {
+                    List<GeneratedRecord> chunk = generateChunk(from, upper);
+                    jdbcTemplate.update(PROGRESS_SQL, ids.size(), chunk.size(), jobId);
+                    return chunk;
+                });
+                if (records != null && !records.isEmpty()) {
+                    afterCommit(records);
+                    created += records.size();
+                }
+                processed += ids.size();
+                lower = upper;
+            }
+            finish(jobId, "COMPLETED", null);
+            log.info("Schedule job {} created {} records for {} aircraft", jobId, created, processed);
+        } catch (RuntimeException e) {
+            log.error("Schedule job {} failed after {} aircraft", jobId, processed, e);
+            finish(jobId, "FAILED", e.getMessage());
+        }
+    }
+
+    private List<GeneratedRecord> generateChunk(UUID lower, UUID upper) {
+        // Serializes chunks across instances so concurrent runs can't both pass NOT EXISTS
+        jdbcTemplate.execute("SELECT pg_advisory_xact_lock(hashtext('maintenance-schedule'))");
+
+        List<GeneratedRecord> records = new ArrayList<>();
+        for (RecurringRule rule : RULES) {
+            records.addAll(jdbcTemplate.query(GENERATE_SQL,
+                    (rs, i) -> new GeneratedRecord(rs.getObject("id", UUID.class),
+                            rs.getObject("aircraft_id", UUID.class), rule.checkType(),
+                            rs.getObject("scheduled_date", LocalDate.class), nullableDouble(rs, "next_due_hours"),
+                            rs.getObject("next_due_date", LocalDate.class)),
+                    rule.intervalHours(), rule.intervalMonths(), rule.checkType().name(), lower, upper));
+        }
+        invalidationBus.publishAll(records.stream()
+                .map(r -> new Invalidation(MaintenanceRecord.class.getSimpleName(), r.id(), r.aircraftId(), false))
+                .toList());
+        return records;
+    }
+
+    /** The search index and audit trail only learn about committed rows. */
+    private void afterCommit(List<GeneratedRecord> records) {
+        searchIndexService.indexMaintenance(records.stream()
+                .map(r -> new MaintenanceTextRow(r.id(), r.aircraftId(), null, null, null))
+                .toList());
+
+        Map<UUID, Map<String, Object>> states = new LinkedHashMap<>();
+        for (GeneratedRecord r : records) {
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("aircraft", r.aircraftId());
+            state.put("checkType", r.checkType());
+            state.put("status", MaintenanceStatus.DUE);
+            state.put("scheduledDate", r.scheduledDate());
+            state.put("hoursAtCheck", 0.0);
+            state.put("nextDueHours", r.nextDueHours());
+            state.put("nextDueDate", r.nextDueDate());
+            states.put(r.id(), state);
+        }
+        auditEventListener.recordBulkInsert(MaintenanceRecord.class, states);
+    }
+
+    private void finish(UUID jobId, String status, String error) {
+        jdbcTemplate.update("""
+                UPDATE maintenance_schedule_jobs SET status = ?, error = ?, finished_at = now(), heartbeat_at = now()
+                WHERE id = ?
+                """, status, error, jobId);
+    }
+
+    private static Double nullableDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static ScheduleJobResponse toResponse(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp finishedAt = rs.getTimestamp("finished_at");
+        return new ScheduleJobResponse(rs.getObject("id", UUID.class), rs.getString("status"),
+                rs.getLong("total_aircraft"), rs.getLong("processed_aircraft"), rs.getLong("records_created"),
+                rs.getInt("chunks_completed"), rs.getTimestamp("started_at").toInstant(),
+                finishedAt != null ? finishedAt.toInstant() : null, rs.getString("error"));
+    }
+
+    private record RecurringRule(MaintenanceCheckType checkType, Integer intervalMonths, Double intervalHours) {
+    }
+
+    private record GeneratedRecord(UUID id, UUID aircraftId, MaintenanceCheckType checkType,
+            LocalDate scheduledDate, Double nextDueHours, LocalDate nextDueDate) {
+    }
+}
@@ -2,11 +2,14 @@ package com.pilotlogbook.service;
 
 import com.pilotlogbook.dto.MaintenanceRequest;
 import com.pilotlogbook.dto.MaintenanceResponse;
+import com.pilotlogbook.event.ChangeType;
+import com.pilotlogbook.event.EntityChangedEvent;
 import com.pilotlogbook.model.Aircraft;
 import com.pilotlogbook.model.MaintenanceRecord;
 import com.pilotlogbook.repository.AircraftRepository;
 import com.pilotlogbook.repository.MaintenanceRecordRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,7 @@ public class MaintenanceService {
 
     private final MaintenanceRecordRepository maintenanceRecordRepository;
     private final AircraftRepository aircraftRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<MaintenanceResponse> getAll() {
         return maintenanceRecordRepository.findAll().stream().map(this::toResponse).toList();
@@ -53,7 +57,9 @@ public class MaintenanceService {
                 .notes(request.notes())
                 .build();
 
-        return toResponse(maintenanceRecordRepository.save(record));
+        MaintenanceRecord saved = maintenanceRecordRepository.save(record);
+        eventPublisher.publishEvent(new EntityChangedEvent(saved, ChangeType.CREATED));
+        return toResponse(saved);
     }
 
     @Transactional
@@ -75,12 +81,16 @@ public class MaintenanceService {
         record.setCost(request.cost());
         record.setNotes(request.notes());
 
-        return toResponse(maintenanceRecordRepository.save(record));
+        MaintenanceRecord saved = maintenanceRecordRepository.save(record);
+        eventPublisher.publishEvent(new EntityChangedEvent(saved, ChangeType.UPDATED));
+        return toResponse(saved);
     }
 
     @Transactional
     public void delete(UUID id) {
-        maintenanceRecordRepository.delete(findOrThrow(id));
+        MaintenanceRecord record = findOrThrow(id);
+        maintenanceRecordRepository.delete(record);
+        eventPublisher.publishEvent(new EntityChangedEvent(record, ChangeType.DELETED));
     }
 
     private MaintenanceRecord findOrThrow(UUID id) {
@@ -88,7 +98,7 @@ public class MaintenanceService {
                 .orElseThrow(() -> new IllegalArgumentException("Maintenance record not found: " + id));
     }
 
-    private MaintenanceResponse toResponse(MaintenanceRecord r) {
+    MaintenanceResponse toResponse(MaintenanceRecord r) {
         return new MaintenanceResponse(
                 r.getId(),
                 r.getAircraft().getId(), r.getAircraft().getTailNumber(),
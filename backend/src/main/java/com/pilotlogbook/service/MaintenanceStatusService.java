@@ -0,0 +1,78 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.audit.AuditEventListener;
+import com.pilotlogbook.invalidation.Invalidation;
+import com.pilotlogbook.invalidation.InvalidationBus;
+import com.pilotlogbook.jobs.JobContext;
+import com.pilotlogbook.model.MaintenanceRecord;
+import com.pilotlogbook.model.enums.MaintenanceStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Time-driven maintenance status transitions, run as a leased job.
+ * DUE records whose {@code next_due_date} has passed become OVERDUE in set-based batches, so
+ * readers can rely on the status alone instead of re-checking dates per record. Each batch
+ * publishes the invalidations a service-layer update would, in one round trip, and is audited
+ * once committed. No {@code EntityChangedEvent}s: neither the search index nor the column store
+ * holds maintenance status.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MaintenanceStatusService {
+
+    private static final String MARK_OVERDUE_SQL = """
+            UPDATE maintenance_records SET status = 'OVERDUE'
+            WHERE id IN (
+                SELECT id FROM maintenance_records
+                WHERE status = 'DUE' AND next_due_date < ?
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, aircraft_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final InvalidationBus invalidationBus;
+    private final AuditEventListener auditEventListener;
+
+    @Value("${app.jobs.maintenance-overdue.batch-size:1000}")
+    private int batchSize;
+
+    /** Flips every DUE record past its due date to OVERDUE; returns how many changed. */
+    public long markOverdue(JobContext context) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        LocalDate today = LocalDate.now();
+        long total = 0;
+        List<UUID> changed;
+        do {
+            changed = tx.execute(status -> {
+                List<Invalidation> invalidations = jdbcTemplate.query(MARK_OVERDUE_SQL,
+                        (rs, i) -> new Invalidation(MaintenanceRecord.class.getSimpleName(),
+                                rs.getObject("id", UUID.class), rs.getObject("aircraft_id", UUID.class), false),
+                        today, batchSize);
+                invalidationBus.publishAll(invalidations);
+                return invalidations.stream().map(Invalidation::entityId).toList();
+            });
+            if (changed != null) {
+                auditEventListener.recordBulkUpdate(MaintenanceRecord.class, changed, "status",
+                        MaintenanceStatus.DUE, MaintenanceStatus.OVERDUE);
+                total += changed.size();
+            }
+        } while (changed != null && changed.size() == batchSize && context.leaseHeld());
+        if (total > 0) {
+            log.info("Marked {} maintenance records OVERDUE", total);
+        }
+        return total;
+    }
+}
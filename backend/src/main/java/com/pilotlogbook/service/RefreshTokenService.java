@@ -0,0 +1,127 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.exception.InvalidTokenException;
+import com.pilotlogbook.model.RefreshToken;
+import com.pilotlogbook.model.User;
+import com.pilotlogbook.repository.RefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Issues and rotates opaque refresh tokens.
+ * Refreshing is a single unique-index lookup on the token hash — no password hashing.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${app.jwt.refresh-expiration-ms:1209600000}")
+    private long refreshExpirationMs;
+
+    @Value("${app.jwt.refresh-cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
+    /** Creates a new refresh token in the given family and returns the raw (unhashed) value. */
+    @Transactional
+    public String issue(User user, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .familyId(familyId)
+                .tokenHash(hash(raw))
+                .expiresAt(Instant.now().plusMillis(refreshExpirationMs))
+                .build());
+        return raw;
+    }
+
+    /**
+     * Consumes a refresh token so it can be exchanged exactly once.
+     * Presenting an already-used token revokes its whole family — either the client or an
+     * attacker holds a stolen copy, and we can't tell which. An expired token is rejected
+     * before it is marked used, so it never counts as a reuse.
+     */
+    @Transactional(noRollbackFor = InvalidTokenException.class)
+    public RefreshToken consume(String rawToken) {
+        RefreshToken token = refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+        Instant now = Instant.now();
+
+        if (token.isRevoked() || token.getUsedAt() != null) {
+            throw reuseDetected(token);
+        }
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new InvalidTokenException("Refresh token has expired");
+        }
+        if (refreshTokenRepository.markUsed(token.getId(), now) == 0) {
+            throw reuseDetected(token); // a concurrent request consumed it first
+        }
+        return token;
+    }
+
+    /** Family of {@code rawToken} without consuming it (rate-limit key); empty for unknown tokens. */
+    @Transactional(readOnly = true)
+    public Optional<UUID> familyOf(String rawToken) {
+        return refreshTokenRepository.findFamilyIdByTokenHash(hash(rawToken));
+    }
+
+    /** Revokes the family of {@code rawToken} (logout); unknown tokens are ignored. */
+    @Transactional
+    public void revokeFamily(String rawToken) {
+        refreshTokenRepository.findByTokenHashWithUser(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId()));
+    }
+
+    /** Deletes expired tokens in batches; runs as a leased job. Returns how many were deleted. */
+    public long deleteExpiredTokens() {
+        Instant now = Instant.now();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = refreshTokenRepository.deleteExpiredBatch(now, cleanupBatchSize);
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+        if (total > 0) {
+            log.info("Deleted {} expired refresh tokens", total);
+        }
+        return total;
+    }
+
+    private InvalidTokenException reuseDetected(RefreshToken token) {
+        refreshTokenRepository.revokeFamily(token.getFamilyId());
+        log.warn("Refresh token reuse detected for user {} (family {})",
+                token.getUser().getId(), token.getFamilyId());
+        return new InvalidTokenException("Refresh token has already been used");
+    }
+
+    private String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.pilotlogbook.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * The highest {@code change_seq} below which every writing transaction has finished.
+ * Sequence numbers are drawn in write order but become visible in commit order, so the sync
+ * watermark must not pass this horizon. The change trigger takes its xid before drawing a
+ * number, so every number up to a sample of the sequence belongs to a transaction older than
+ * the next xid observed right after that sample; once the oldest running xid has passed it,
+ * all of them are visible. The horizon trails the present by about the longest running write.
+ * Never lazy: sampling must already be under way when the first sync read arrives.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class SyncHorizon {
+
+    private static final String SEQUENCE_SQL =
+            "SELECT CASE WHEN is_called THEN last_value ELSE last_value - 1 END FROM change_seq";
+    private static final String SNAPSHOT_SQL = """
+            SELECT pg_snapshot_xmin(s)::text::bigint, pg_snapshot_xmax(s)::text::bigint
+            FROM pg_current_snapshot() AS s
+            """;
+    private static final int MAX_PENDING = 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Deque<long[]> pending = new ArrayDeque<>(); // {seq, next xid}; guarded by this
+    private long safeSeq;                                    // guarded by this
+
+    /** Samples the database and returns the horizon as of now. */
+    public long current() {
+        long seq = jdbcTemplate.queryForObject(SEQUENCE_SQL, Long.class);
+        long[] xids = jdbcTemplate.queryForObject(SNAPSHOT_SQL, (rs, n) -> new long[]{rs.getLong(1), rs.getLong(2)});
+        return advance(seq, xids[0], xids[1]);
+    }
+
+    /** Keeps the horizon moving between sync reads, so a read rarely has to wait for its own sample. */
+    @Scheduled(fixedDelayString = "${app.sync.horizon-sample-ms:1000}")
+    public void sample() {
+        try {
+            current();
+        } catch (DataAccessException e) {
+            log.debug("Could not sample the sync horizon", e);
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private synchronized long advance(long seq, long oldestRunningXid, long nextXid) {
+        if (pending.size() == MAX_PENDING) {
+            pending.removeFirst(); // only delays the horizon, never moves it too far
+        }
+        pending.addLast(new long[]{seq, nextXid});
+        while (!pending.isEmpty() && pending.peekFirst()[1] <= oldestRunningXid) {
+            safeSeq = Math.max(safeSeq, pending.removeFirst()[0]);
+        }
+        return safeSeq;
+    }
+}
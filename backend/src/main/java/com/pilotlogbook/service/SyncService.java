@@ -0,0 +1,115 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.dto.SyncResponse;
+import com.pilotlogbook.dto.TombstoneResponse;
+import com.pilotlogbook.model.Aircraft;
+import com.pilotlogbook.model.FlightLogEntry;
+import com.pilotlogbook.model.MaintenanceRecord;
+import com.pilotlogbook.model.SyncTombstone;
+import com.pilotlogbook.repository.AircraftRepository;
+import com.pilotlogbook.repository.FlightLogEntryRepository;
+import com.pilotlogbook.repository.MaintenanceRecordRepository;
+import com.pilotlogbook.repository.SyncTombstoneRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.ToLongFunction;
+
+/**
+ * Delta sync over aircraft, maintenance records and flight logs.
+ * Every insert/update stamps the row with the global {@code change_seq} and every delete
+ * writes a tombstone with the same sequence (both via DB triggers), so "what changed since X"
+ * is an index range scan per table. Sequence numbers are drawn before commit, so the watermark
+ * never passes the {@link SyncHorizon}; rows above it are sent again on a later read.
+ */
+@Service
+@RequiredArgsConstructor
+public class SyncService {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final AircraftRepository aircraftRepository;
+    private final MaintenanceRecordRepository maintenanceRecordRepository;
+    private final FlightLogEntryRepository flightLogRepository;
+    private final SyncTombstoneRepository tombstoneRepository;
+    private final SyncHorizon horizon;
+    private final AircraftService aircraftService;
+    private final MaintenanceService maintenanceService;
+    private final FlightLogService flightLogService;
+
+    /**
+     * Returns upserts and deletions after {@code since}, up to {@code limit} rows per entity type.
+     * The returned watermark is the highest sequence the client has now fully seen; when any
+     * type hit its limit the watermark stops at the lowest such cut so nothing is skipped, and it
+     * never passes a sequence number that a still-running transaction may hold.
+     *
+     * @param pilotId optional — restricts flight logs to one pilot's logbook
+     */
+    @Transactional(readOnly = true)
+    public SyncResponse changesSince(long since, int limit, UUID pilotId) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        Pageable page = PageRequest.of(0, pageSize);
+        long settled = horizon.current(); // before the reads, so everything below it is visible to them
+
+        List<Aircraft> aircraft = aircraftRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, page);
+        List<MaintenanceRecord> maintenance =
+                maintenanceRecordRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, page);
+        List<FlightLogEntry> flights = pilotId != null
+                ? flightLogRepository.findByPilotIdAndChangeSeqGreaterThanOrderByChangeSeqAsc(pilotId, since, page)
+                : flightLogRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, page);
+        List<SyncTombstone> tombstones = tombstoneRepository.findByChangeSeqGreaterThanOrderByChangeSeqAsc(since, page);
+
+        Cut cut = new Cut(since, pageSize);
+        cut.observe(aircraft, Aircraft::getChangeSeq);
+        cut.observe(maintenance, MaintenanceRecord::getChangeSeq);
+        cut.observe(flights, FlightLogEntry::getChangeSeq);
+        cut.observe(tombstones, SyncTombstone::getChangeSeq);
+        long watermark = Math.max(since, Math.min(cut.watermark(), settled));
+
+        return new SyncResponse(
+                watermark,
+                cut.truncated && cut.watermark() <= settled,
+                aircraft.stream().filter(a -> a.getChangeSeq() <= watermark)
+                        .map(aircraftService::toResponse).toList(),
+                maintenance.stream().filter(m -> m.getChangeSeq() <= watermark)
+                        .map(maintenanceService::toResponse).toList(),
+                flights.stream().filter(f -> f.getChangeSeq() <= watermark)
+                        .map(flightLogService::toResponse).toList(),
+                tombstones.stream().filter(t -> t.getChangeSeq() <= watermark)
+                        .map(t -> new TombstoneResponse(t.getEntityType(), t.getEntityId())).toList());
+    }
+
+    /** Tracks the highest sequence seen and the lowest sequence at which any page was cut off. */
+    private static final class Cut {
+        private final int pageSize;
+        private long highest;
+        private long lowestTruncation = Long.MAX_VALUE;
+        private boolean truncated;
+
+        Cut(long since, int pageSize) {
+            this.highest = since;
+            this.pageSize = pageSize;
+        }
+
+        <T> void observe(List<T> page, ToLongFunction<T> seq) {
+            if (page.isEmpty()) {
+                return;
+            }
+            long last = seq.applyAsLong(page.get(page.size() - 1));
+            highest = Math.max(highest, last);
+            if (page.size() == pageSize) {
+                truncated = true;
+                lowestTruncation = Math.min(lowestTruncation, last);
+            }
+        }
+
+        long watermark() {
+            return truncated ? lowestTruncation : highest;
+        }
+    }
+}
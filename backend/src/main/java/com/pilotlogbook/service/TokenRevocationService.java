@@ -0,0 +1,82 @@
+package com.pilotlogbook.service;
+
+import com.pilotlogbook.exception.InvalidTokenException;
+import com.pilotlogbook.invalidation.Invalidation;
+import com.pilotlogbook.invalidation.InvalidationBus;
+import com.pilotlogbook.model.RevokedToken;
+import com.pilotlogbook.repository.RevokedTokenRepository;
+import com.pilotlogbook.security.JwtTokenProvider;
+import com.pilotlogbook.security.TokenDenylist;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Revokes access tokens before they expire.
+ * The row in {@code revoked_tokens} is the source of truth; this node's {@link TokenDenylist}
+ * is updated right away and the other nodes re-read the row when the invalidation arrives.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final TokenDenylist tokenDenylist;
+    private final InvalidationBus invalidationBus;
+
+    @Value("${app.jwt.denylist.cleanup-batch-size:1000}")
+    private int cleanupBatchSize;
+
+    /**
+     * Revokes a signed access token until its expiry. Expired tokens, and tokens issued
+     * before the {@code jti} claim existed, are left alone — neither can be revoked further.
+     */
+    @Transactional
+    public void revoke(String accessToken) {
+        Claims claims;
+        try {
+            claims = jwtTokenProvider.parseToken(accessToken);
+        } catch (ExpiredJwtException e) {
+            return;
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Invalid access token");
+        }
+        UUID jti = JwtTokenProvider.tokenId(claims);
+        if (jti == null) {
+            return;
+        }
+        Instant expiresAt = claims.getExpiration().toInstant();
+        revokedTokenRepository.save(RevokedToken.builder()
+                .jti(jti)
+                .subject(claims.getSubject())
+                .expiresAt(expiresAt)
+                .build());
+        tokenDenylist.add(jti, expiresAt);
+        invalidationBus.publish(new Invalidation(RevokedToken.class.getSimpleName(), jti, null, false));
+    }
+
+    /** Deletes rows whose token has expired anyway; runs as a leased job. Returns how many were deleted. */
+    public long deleteExpired() {
+        Instant now = Instant.now();
+        long total = 0;
+        int deleted;
+        do {
+            deleted = revokedTokenRepository.deleteExpiredBatch(now, cleanupBatchSize);
+            total += deleted;
+        } while (deleted == cleanupBatchSize);
+        if (total > 0) {
+            log.info("Deleted {} expired revoked-token entries", total);
+        }
+        return total;
+    }
+}
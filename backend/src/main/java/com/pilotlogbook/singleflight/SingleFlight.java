@@ -0,0 +1,19 @@
+package com.pilotlogbook.singleflight;
+
+import java.lang.annotation.*;
+
+/**
+ * Concurrent calls with equal arguments share one execution and its result.
+ * Meant for expensive, low-cardinality reads (arguments form part of the key).
+ * Per-method windows are configured under {@code app.single-flight.methods.<value>}.
+ * The rate limiter runs first, so keep such endpoints out of a {@code max-concurrent} class —
+ * a burst would be turned away before it could coalesce.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SingleFlight {
+
+    /** Name used for configuration, metrics and invalidation. */
+    String value();
+}
@@ -0,0 +1,30 @@
+package com.pilotlogbook.singleflight;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Routes {@link SingleFlight} methods through {@link SingleFlightGroup}.
+ * Outermost advice, so followers never touch a connection or transaction and background
+ * refreshes re-enter the rest of the chain (workload routing, transactions) on their own thread.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    private final SingleFlightGroup group;
+
+    @Around("@annotation(singleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        return group.execute(singleFlight.value(), Arrays.asList(joinPoint.getArgs()), joinPoint::proceed);
+    }
+}
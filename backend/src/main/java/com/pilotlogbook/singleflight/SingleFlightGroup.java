@@ -0,0 +1,182 @@
+package com.pilotlogbook.singleflight;
+
+import com.pilotlogbook.config.SingleFlightProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-flight and recently completed calls, keyed by method name and arguments.
+ * Outcomes are counted in {@code app.singleflight.calls{name,outcome}}:
+ * {@code leader} executed the call, {@code coalesced} waited for a leader,
+ * {@code fresh}/{@code stale} were served a completed result.
+ * Invalidation starts a new generation: results and in-flight calls of the old one are never
+ * served again, even when they complete afterwards.
+ */
+@Slf4j
+@Component
+public class SingleFlightGroup {
+
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Key, Flight> flights = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ExecutorService refresher = Executors.newCachedThreadPool(r -> {
+        Thread t = new Thread(r, "single-flight-refresh");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public SingleFlightGroup(SingleFlightProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    public Object execute(String name, List<Object> args, Call call) throws Throwable {
+        if (!properties.enabled()) {
+            return call.run();
+        }
+        SingleFlightProperties.Method settings = properties.method(name);
+        Flight flight = flights.computeIfAbsent(new Key(name, args), k -> new Flight());
+
+        long generation = flight.generation.get();
+        Result latest = flight.latest;
+        if (latest != null && latest.generation() == generation) {
+            long ageMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - latest.completedAt());
+            if (ageMs <= settings.maxAgeMs()) {
+                count(name, "fresh");
+                return latest.value();
+            }
+            if (ageMs <= settings.maxAgeMs() + settings.staleWhileRevalidateMs()) {
+                count(name, "stale");
+                refreshInBackground(name, flight, call, settings, generation);
+                return latest.value();
+            }
+        }
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = flight.inFlight.compareAndExchange(null, mine);
+        if (existing != null) {
+            count(name, "coalesced");
+            return await(existing);
+        }
+        count(name, "leader");
+        return lead(flight, call, mine, settings, generation);
+    }
+
+    /**
+     * Forgets completed results for {@code name} so the next call recomputes. Calls already running
+     * may have read the old data: they still answer their own waiters but are neither stored nor joined.
+     */
+    public void invalidate(String name) {
+        flights.forEach((key, flight) -> {
+            if (key.name().equals(name)) {
+                flight.generation.incrementAndGet();
+                flight.latest = null;
+                flight.inFlight.set(null);
+            }
+        });
+    }
+
+    /** Drops entries with nothing running and no result left to serve — one per distinct argument list. */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdleFlights() {
+        long now = System.nanoTime();
+        flights.entrySet().removeIf(e -> e.getValue().isIdle(now, properties.method(e.getKey().name())));
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    /** {@code generation} is read before {@code mine} was published, so a racing invalidation is never missed. */
+    private Object lead(Flight flight, Call call, CompletableFuture<Object> mine,
+            SingleFlightProperties.Method settings, long generation) throws Throwable {
+        try {
+            Object value = call.run();
+            if (settings.maxAgeMs() + settings.staleWhileRevalidateMs() > 0
+                    && generation == flight.generation.get()) {
+                // still tagged: an invalidation between the check and the store leaves it unservable
+                flight.latest = new Result(value, System.nanoTime(), generation);
+            }
+            mine.complete(value);
+            return value;
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+            throw t;
+        } finally {
+            flight.inFlight.compareAndSet(mine, null);
+        }
+    }
+
+    private void refreshInBackground(String name, Flight flight, Call call, SingleFlightProperties.Method settings,
+            long generation) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        if (!flight.inFlight.compareAndSet(null, mine)) {
+            return;
+        }
+        refresher.execute(() -> {
+            try {
+                lead(flight, call, mine, settings, generation);
+            } catch (Throwable t) {
+                log.warn("Background refresh of {} failed", name, t);
+            }
+        });
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    private void count(String name, String outcome) {
+        counters.computeIfAbsent(name + '|' + outcome, k -> Counter.builder("app.singleflight.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry)).increment();
+    }
+
+    @FunctionalInterface
+    public interface Call {
+        Object run() throws Throwable;
+    }
+
+    private record Key(String name, List<Object> args) {
+    }
+
+    private record Result(Object value, long completedAt, long generation) {
+    }
+
+    private static final class Flight {
+        private final AtomicReference<CompletableFuture<Object>> inFlight = new AtomicReference<>();
+        private final AtomicLong generation = new AtomicLong();
+        private volatile Result latest;
+
+        boolean isIdle(long now, SingleFlightProperties.Method settings) {
+            if (inFlight.get() != null) {
+                return false;
+            }
+            Result result = latest;
+            return result == null || TimeUnit.NANOSECONDS.toMillis(now - result.completedAt())
+                    > settings.maxAgeMs() + settings.staleWhileRevalidateMs();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.pilotlogbook.timing;
+
+/**
+ * Statement limits for one request.
+ *
+ * @param maxStatements total statements the endpoint may execute
+ * @param maxRepeats    executions of one identical parameterized statement — exceeding it is the
+ *                      signature of an N+1 (a per-row lazy load or lookup)
+ */
+record QueryBudget(int maxStatements, int maxRepeats) {
+
+    /** Returns a description of the violation the next statement would cause, or null. */
+    String check(int statementCount, int repeatCount) {
+        if (maxStatements > 0 && statementCount > maxStatements) {
+            return "query budget of " + maxStatements + " statements exceeded";
+        }
+        if (maxRepeats > 0 && repeatCount > maxRepeats) {
+            return "possible N+1: identical statement executed more than " + maxRepeats + " times";
+        }
+        return null;
+    }
+}
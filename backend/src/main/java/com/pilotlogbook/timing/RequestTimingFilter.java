@@ -0,0 +1,128 @@
+package com.pilotlogbook.timing;
+
+import com.pilotlogbook.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Outermost filter: opens {@link RequestTimings} for the request, then logs one line per request
+ * and, above {@code app.timing.slow-request-ms} or on a query budget violation, every statement
+ * it executed. Serialization time is only known after the headers are sent, so it appears in the
+ * log line only.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private final QueryBudgetProperties budgets;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Value("${app.timing.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.timing.slow-request-ms:1000}")
+    private long slowRequestMs;
+
+    @Value("${app.timing.max-statements:200}")
+    private int maxStatements;
+
+    public RequestTimingFilter(QueryBudgetProperties budgets, MeterRegistry meterRegistry) {
+        this.budgets = budgets;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start(maxStatements, budgetFor(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.clear();
+            timings.finish();
+            if (!response.isCommitted()) {
+                response.setHeader(SERVER_TIMING, timings.serverTiming());
+            }
+            if (timings.budgetViolation() != null) {
+                Counter.builder("app.timing.query_budget_violations")
+                        .tag("endpoint", endpoint(request))
+                        .register(meterRegistry)
+                        .increment();
+            }
+            log(request, response, timings);
+        }
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private QueryBudget budgetFor(HttpServletRequest request) {
+        int limit = budgets.maxStatements();
+        if (budgets.endpoints() != null) {
+            for (Map.Entry<String, Integer> e : budgets.endpoints().entrySet()) {
+                String[] key = e.getKey().trim().split("\\s+", 2);
+                if (key.length == 2 && key[0].equalsIgnoreCase(request.getMethod())
+                        && pathMatcher.match(key[1], request.getRequestURI())) {
+                    limit = e.getValue();
+                    break;
+                }
+            }
+        }
+        return new QueryBudget(limit, limit > 0 ? budgets.maxRepeats() : 0);
+    }
+
+    /** Handler pattern rather than raw URI, so the metric tag stays low-cardinality. */
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+    }
+
+    private void log(HttpServletRequest request, HttpServletResponse response, RequestTimings t) {
+        double totalMs = RequestTimings.ms(t.totalNanos());
+        String line = String.format(Locale.ROOT,
+                "method=%s path=%s status=%d total_ms=%.1f jwt_ms=%.1f sql_count=%d sql_ms=%.1f app_ms=%.1f serialize_ms=%.1f",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), totalMs,
+                RequestTimings.ms(t.jwtNanos()), t.sqlCount(), RequestTimings.ms(t.sqlNanos()),
+                RequestTimings.ms(t.handlerNanos()), RequestTimings.ms(t.serializationNanos()));
+
+        if (totalMs < slowRequestMs && t.budgetViolation() == null) {
+            log.info(line);
+            return;
+        }
+        StringBuilder sb = new StringBuilder(t.budgetViolation() != null ? t.budgetViolation() : "slow request")
+                .append(' ').append(line);
+        int i = 0;
+        for (RequestTimings.Statement s : t.statements()) {
+            sb.append(String.format(Locale.ROOT, "%n  #%d %.1f ms %s", ++i, RequestTimings.ms(s.nanos()), s.sql()));
+        }
+        if (t.sqlCount() > t.statements().size()) {
+            sb.append(String.format(Locale.ROOT, "%n  … %d more", t.sqlCount() - t.statements().size()));
+        }
+        log.warn(sb.toString());
+    }
+}
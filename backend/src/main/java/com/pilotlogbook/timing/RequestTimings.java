@@ -0,0 +1,153 @@
+package com.pilotlogbook.timing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Where one request's time went: JWT authentication, SQL, handler code (including entity
+ * hydration) and response serialization. Bound to the request thread by {@link RequestTimingFilter};
+ * all static recorders are no-ops outside a request. Statements are also checked against the
+ * request's {@link QueryBudget}.
+ */
+public final class RequestTimings {
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+    private static final int MAX_SQL_LENGTH = 500;
+
+    private final long startedAt = System.nanoTime();
+    private final int maxStatements;
+    private final QueryBudget budget;
+    private final List<Statement> statements = new ArrayList<>();
+    private final Map<String, Integer> executions = new HashMap<>();
+    private String budgetViolation;
+    private long jwtNanos;
+    private long sqlNanos;
+    private int sqlCount;
+    private long sqlStartedAt;
+    private long bodyWriteAt;
+    private long finishedAt;
+
+    private RequestTimings(int maxStatements, QueryBudget budget) {
+        this.maxStatements = maxStatements;
+        this.budget = budget;
+    }
+
+    static RequestTimings start(int maxStatements, QueryBudget budget) {
+        RequestTimings timings = new RequestTimings(maxStatements, budget);
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    // ─── Recorders ────────────────────────────────────────────────────────────
+
+    public static void recordJwt(long nanos) {
+        RequestTimings t = CURRENT.get();
+        if (t != null) {
+            t.jwtNanos += nanos;
+        }
+    }
+
+    /** Also notes the first statement that takes the request over its budget; it still runs. */
+    static void sqlStarted(String sql) {
+        RequestTimings t = CURRENT.get();
+        if (t == null) {
+            return;
+        }
+        if (t.budgetViolation == null) {
+            t.budgetViolation = t.budget.check(t.sqlCount + 1, t.executions.getOrDefault(sql, 0) + 1);
+        }
+        t.sqlStartedAt = System.nanoTime();
+    }
+
+    static void sqlFinished(String sql) {
+        RequestTimings t = CURRENT.get();
+        if (t == null || t.sqlStartedAt == 0) {
+            return;
+        }
+        long nanos = System.nanoTime() - t.sqlStartedAt;
+        t.sqlStartedAt = 0;
+        t.sqlNanos += nanos;
+        t.sqlCount++;
+        t.executions.merge(sql, 1, Integer::sum);
+        if (t.statements.size() < t.maxStatements) {
+            t.statements.add(new Statement(
+                    sql.length() > MAX_SQL_LENGTH ? sql.substring(0, MAX_SQL_LENGTH) + "…" : sql, nanos));
+        }
+    }
+
+    /** Marks the start of response serialization; everything before it is handler time. */
+    void bodyWriteStarted() {
+        if (bodyWriteAt == 0) {
+            bodyWriteAt = System.nanoTime();
+        }
+    }
+
+    void finish() {
+        finishedAt = System.nanoTime();
+    }
+
+    // ─── Readers ──────────────────────────────────────────────────────────────
+
+    /** RFC-style Server-Timing value for the time elapsed so far. */
+    String serverTiming() {
+        long now = System.nanoTime();
+        long handlerEnd = bodyWriteAt != 0 ? bodyWriteAt : now;
+        return String.format(Locale.ROOT,
+                "jwt;dur=%.1f, sql;dur=%.1f;desc=\"%d statements\", app;dur=%.1f, total;dur=%.1f",
+                ms(jwtNanos), ms(sqlNanos), sqlCount,
+                ms(Math.max(0, handlerEnd - startedAt - jwtNanos - sqlNanos)), ms(now - startedAt));
+    }
+
+    long totalNanos() {
+        return (finishedAt != 0 ? finishedAt : System.nanoTime()) - startedAt;
+    }
+
+    long jwtNanos() {
+        return jwtNanos;
+    }
+
+    long sqlNanos() {
+        return sqlNanos;
+    }
+
+    int sqlCount() {
+        return sqlCount;
+    }
+
+    long serializationNanos() {
+        return bodyWriteAt != 0 ? (finishedAt != 0 ? finishedAt : System.nanoTime()) - bodyWriteAt : 0;
+    }
+
+    long handlerNanos() {
+        long end = bodyWriteAt != 0 ? bodyWriteAt : finishedAt;
+        return Math.max(0, end - startedAt - jwtNanos - sqlNanos);
+    }
+
+    /** First budget violation seen in this request, or null. */
+    String budgetViolation() {
+        return budgetViolation;
+    }
+
+    List<Statement> statements() {
+        return statements;
+    }
+
+    static double ms(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    record Statement(String sql, long nanos) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.pilotlogbook.timing;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Feeds every JDBC statement executed on a request thread into its {@link RequestTimings}.
+ * Batches count as one statement, so batched writes don't trip the repeat limit.
+ */
+public class SqlTimingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings.sqlStarted(sql(queryInfoList));
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestTimings.sqlFinished(sql(queryInfoList));
+    }
+
+    /** Parameterized text, so the same statement with different bind values compares equal. */
+    private static String sql(List<QueryInfo> queryInfoList) {
+        return queryInfoList.size() == 1
+                ? queryInfoList.get(0).getQuery()
+                : queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,31 @@
+-- Flyway V10: Natural-key fingerprint for duplicate flight detection
+
+-- ─── Fingerprint ──────────────────────────────────────────────────────────────
+-- SHA-256 of pilot|aircraft|date|departure id|arrival id|total time, matching
+-- FlightDeduplicationService.fingerprint(). Nullable so pre-existing duplicates
+-- are kept: only the earliest row of each group is fingerprinted.
+ALTER TABLE flight_log_entries ADD COLUMN fingerprint BYTEA;
+
+-- Backfill is not a client-visible change; keep change_seq as it is
+ALTER TABLE flight_log_entries DISABLE TRIGGER trg_flight_logs_change_seq;
+
+WITH hashed AS (
+    SELECT id, created_at,
+           digest(pilot_id::text || '|' || aircraft_id::text || '|' || to_char(date, 'YYYY-MM-DD') || '|'
+                  || departure_airport_id || '|' || arrival_airport_id || '|' || total_flight_time::text,
+                  'sha256') AS fp
+    FROM flight_log_entries
+), first_seen AS (
+    SELECT DISTINCT ON (fp) id, fp
+    FROM hashed
+    ORDER BY fp, created_at, id
+)
+UPDATE flight_log_entries f
+SET fingerprint = first_seen.fp
+FROM first_seen
+WHERE f.id = first_seen.id;
+
+ALTER TABLE flight_log_entries ENABLE TRIGGER trg_flight_logs_change_seq;
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+CREATE UNIQUE INDEX uq_flight_logs_fingerprint ON flight_log_entries(fingerprint);
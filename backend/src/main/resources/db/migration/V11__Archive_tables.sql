@@ -0,0 +1,88 @@
+-- Flyway V11: Cold storage for old flight logs and completed maintenance
+
+-- ─── flight_log_archive ───────────────────────────────────────────────────────
+-- Append-only and rarely read: packed full pages, and a low TOAST target so
+-- remarks are compressed out of line. Aircraft details are snapshotted because
+-- the archive outlives the aircraft row.
+CREATE TABLE flight_log_archive (
+    id                  UUID            PRIMARY KEY,
+    pilot_id            UUID            NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    aircraft_id         UUID            NOT NULL,
+    tail_number         VARCHAR(20)     NOT NULL,
+    aircraft_model      VARCHAR(100)    NOT NULL,
+    date                DATE            NOT NULL,
+    departure_airport_id INTEGER        NOT NULL,
+    arrival_airport_id  INTEGER         NOT NULL,
+    total_flight_time   NUMERIC(6,1)    NOT NULL,
+    pic_time            NUMERIC(6,1)    NOT NULL,
+    sic_time            NUMERIC(6,1)    NOT NULL,
+    dual_received_time  NUMERIC(6,1)    NOT NULL,
+    solo_time           NUMERIC(6,1)    NOT NULL,
+    night_time          NUMERIC(6,1)    NOT NULL,
+    ifr_time            NUMERIC(6,1)    NOT NULL,
+    cross_country_time  NUMERIC(6,1)    NOT NULL,
+    day_landings        SMALLINT        NOT NULL,
+    night_landings      SMALLINT        NOT NULL,
+    weather_condition   weather_condition NOT NULL,
+    flight_rule         flight_rule     NOT NULL,
+    remarks             TEXT,
+    approach_types      TEXT[],
+    simulator_time      NUMERIC(6,1),
+    created_at          TIMESTAMPTZ     NOT NULL,
+    archived_at         TIMESTAMPTZ     NOT NULL DEFAULT NOW()
+) WITH (fillfactor = 100, toast_tuple_target = 128);
+
+-- ─── maintenance_record_archive ───────────────────────────────────────────────
+CREATE TABLE maintenance_record_archive (
+    id               UUID                    PRIMARY KEY,
+    aircraft_id      UUID                    NOT NULL,
+    tail_number      VARCHAR(20)             NOT NULL,
+    check_type       maintenance_check_type  NOT NULL,
+    scheduled_date   DATE                    NOT NULL,
+    completed_date   DATE,
+    hours_at_check   NUMERIC(10,1)           NOT NULL,
+    next_due_hours   NUMERIC(10,1),
+    next_due_date    DATE,
+    technician       VARCHAR(120),
+    squawks          TEXT,
+    cost             NUMERIC(12,2),
+    notes            TEXT,
+    created_at       TIMESTAMPTZ             NOT NULL,
+    archived_at      TIMESTAMPTZ             NOT NULL DEFAULT NOW()
+) WITH (fillfactor = 100, toast_tuple_target = 128);
+
+-- ─── archived_flight_totals ───────────────────────────────────────────────────
+-- Carried-forward lifetime totals of archived flights, per pilot and aircraft
+-- model, so pilot stats stay correct without reading the archive.
+CREATE TABLE archived_flight_totals (
+    pilot_id            UUID           NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    aircraft_model      VARCHAR(100)   NOT NULL,
+    flights             BIGINT         NOT NULL DEFAULT 0,
+    total_time          NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    pic_time            NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    sic_time            NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    dual_received_time  NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    solo_time           NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    night_time          NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    ifr_time            NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    cross_country_time  NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    day_landings        BIGINT         NOT NULL DEFAULT 0,
+    night_landings      BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (pilot_id, aircraft_model)
+);
+
+-- ─── Tombstones ───────────────────────────────────────────────────────────────
+-- Archival is not a deletion from the client's point of view
+CREATE OR REPLACE FUNCTION record_tombstone() RETURNS trigger AS $$
+BEGIN
+    IF current_setting('app.archiving', true) = 'on' THEN
+        RETURN OLD;
+    END IF;
+    INSERT INTO sync_tombstones (entity_type, entity_id) VALUES (TG_ARGV[0], OLD.id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+CREATE INDEX idx_flight_archive_pilot_date      ON flight_log_archive(pilot_id, date);
+CREATE INDEX idx_maintenance_archive_aircraft   ON maintenance_record_archive(aircraft_id, completed_date);
@@ -0,0 +1,26 @@
+-- Flyway V12: Time-ordered UUIDv7 keys for rows inserted by SQL
+
+-- ─── uuid_generate_v7() ───────────────────────────────────────────────────────
+-- Same layout as UuidV7Generator: 48-bit Unix ms timestamp, version 7, variant
+-- 10, random remainder (pgcrypto). Used for rows inserted outside Hibernate,
+-- e.g. schedule generation.
+CREATE FUNCTION uuid_generate_v7() RETURNS uuid AS $$
+DECLARE
+    b bytea := substring(int8send((extract(epoch FROM clock_timestamp()) * 1000)::bigint) FROM 3)
+               || gen_random_bytes(10);
+BEGIN
+    b := set_byte(b, 6, (get_byte(b, 6) & 15) | 112);
+    b := set_byte(b, 8, (get_byte(b, 8) & 63) | 128);
+    RETURN encode(b, 'hex')::uuid;
+END;
+$$ LANGUAGE plpgsql VOLATILE;
+
+-- ─── Defaults ─────────────────────────────────────────────────────────────────
+-- Existing v4 keys are kept: they are referenced by foreign keys, sync clients,
+-- the search index and URLs. New rows append at the right edge of each primary
+-- key index; REINDEX INDEX CONCURRENTLY compacts the old random region if needed.
+ALTER TABLE users               ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE aircraft            ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE flight_log_entries  ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE maintenance_records ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE refresh_tokens      ALTER COLUMN id SET DEFAULT uuid_generate_v7();
@@ -0,0 +1,19 @@
+-- Flyway V13: Field-level audit trail for aircraft, flight logs and maintenance records
+
+-- ─── audit_events ─────────────────────────────────────────────────────────────
+-- Append-only. Written behind the request by AuditWriter in JDBC batches; the id is
+-- generated when the change is captured, so replaying a spill file is idempotent.
+-- changes: {"field": {"from": <old>, "to": <new>}, ...} — associations by id.
+CREATE TABLE audit_events (
+    id           UUID          PRIMARY KEY,
+    occurred_at  TIMESTAMPTZ   NOT NULL,
+    actor        VARCHAR(255)  NOT NULL,
+    entity_type  VARCHAR(40)   NOT NULL,
+    entity_id    UUID          NOT NULL,
+    action       VARCHAR(10)   NOT NULL,
+    changes      JSONB         NOT NULL
+);
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+CREATE INDEX idx_audit_events_entity ON audit_events(entity_id, occurred_at DESC);
+CREATE INDEX idx_audit_events_actor  ON audit_events(actor, occurred_at DESC);
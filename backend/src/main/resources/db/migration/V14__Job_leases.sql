@@ -0,0 +1,35 @@
+-- Flyway V14: Lease-locked scheduled jobs and their run history
+
+-- ─── job_leases ───────────────────────────────────────────────────────────────
+-- One row per job, inserted by the first node that knows the job. A node may run the
+-- job once next_run_at has passed and no other node holds an unexpired lease; the
+-- holder extends lease_until while it runs and sets next_run_at when it finishes.
+-- All times come from the database clock, so node clock skew doesn't matter.
+CREATE TABLE job_leases (
+    job_name     VARCHAR(100)  PRIMARY KEY,
+    owner        VARCHAR(100),
+    lease_until  TIMESTAMPTZ   NOT NULL DEFAULT '-infinity',
+    next_run_at  TIMESTAMPTZ   NOT NULL DEFAULT now()
+);
+
+-- ─── job_runs ─────────────────────────────────────────────────────────────────
+-- status: RUNNING → SUCCEEDED | FAILED; a RUNNING row whose lease expired is marked
+-- ABANDONED by the node that takes the lease over.
+CREATE TABLE job_runs (
+    id             UUID          PRIMARY KEY DEFAULT uuid_generate_v7(),
+    job_name       VARCHAR(100)  NOT NULL,
+    owner          VARCHAR(100)  NOT NULL,
+    status         VARCHAR(10)   NOT NULL,
+    started_at     TIMESTAMPTZ   NOT NULL DEFAULT now(),
+    finished_at    TIMESTAMPTZ,
+    rows_affected  BIGINT,
+    error          TEXT
+);
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+CREATE INDEX idx_job_runs_job_started ON job_runs(job_name, started_at DESC);
+
+-- DUE → OVERDUE transition and the fleet "due soon" count both scan open DUE records by date
+CREATE INDEX idx_maintenance_due_date
+    ON maintenance_records(next_due_date)
+    WHERE status = 'DUE';
@@ -0,0 +1,15 @@
+-- Flyway V15: Denylist of revoked access tokens
+
+-- ─── revoked_tokens ───────────────────────────────────────────────────────────
+-- One row per revoked access token, keyed by its jti claim. A row only matters until the
+-- token would have expired anyway: every node mirrors the live rows in memory, and the
+-- leased job "revoked-token-cleanup" deletes the rest.
+CREATE TABLE revoked_tokens (
+    jti         UUID          PRIMARY KEY,
+    subject     VARCHAR(255)  NOT NULL,
+    expires_at  TIMESTAMPTZ   NOT NULL,
+    revoked_at  TIMESTAMPTZ   NOT NULL DEFAULT now()
+);
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+CREATE INDEX idx_revoked_tokens_expires ON revoked_tokens(expires_at);
@@ -0,0 +1,15 @@
+-- Flyway V16: Take the transaction id before the change sequence number
+
+-- ─── Triggers ─────────────────────────────────────────────────────────────────
+-- change_seq is handed out when a row is written, not when its transaction commits, so a
+-- sync read can see seq 11 while seq 10 is still uncommitted. SyncHorizon only lets the sync
+-- watermark pass a sequence value once every transaction that could hold it has finished,
+-- which it judges from transaction ids; that needs the xid to exist before the sequence
+-- number is drawn. Deletes already have an xid when record_tombstone() runs.
+CREATE OR REPLACE FUNCTION bump_change_seq() RETURNS trigger AS $$
+BEGIN
+    PERFORM pg_current_xact_id();
+    NEW.change_seq := nextval('change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
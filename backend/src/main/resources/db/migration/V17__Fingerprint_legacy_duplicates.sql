@@ -0,0 +1,25 @@
+-- Flyway V17: Fingerprint every flight log; only pre-existing duplicates may share one
+
+-- ─── Fingerprint ──────────────────────────────────────────────────────────────
+-- V10 left every row but the earliest of a duplicate group without a fingerprint, so
+-- editing such a row recomputed the shared fingerprint and was rejected as a duplicate
+-- of its own group. Those rows are now fingerprinted too and flagged legacy_duplicate;
+-- uniqueness holds for everything else. A legacy row whose natural key is edited to a
+-- new value loses the flag.
+ALTER TABLE flight_log_entries ADD COLUMN legacy_duplicate BOOLEAN NOT NULL DEFAULT false;
+
+-- Backfill is not a client-visible change; keep change_seq as it is
+ALTER TABLE flight_log_entries DISABLE TRIGGER trg_flight_logs_change_seq;
+
+UPDATE flight_log_entries
+SET fingerprint = digest(pilot_id::text || '|' || aircraft_id::text || '|' || to_char(date, 'YYYY-MM-DD') || '|'
+                         || departure_airport_id || '|' || arrival_airport_id || '|' || total_flight_time::text,
+                         'sha256'),
+    legacy_duplicate = true
+WHERE fingerprint IS NULL;
+
+ALTER TABLE flight_log_entries ENABLE TRIGGER trg_flight_logs_change_seq;
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+DROP INDEX uq_flight_logs_fingerprint;
+CREATE UNIQUE INDEX uq_flight_logs_fingerprint ON flight_log_entries(fingerprint) WHERE NOT legacy_duplicate;
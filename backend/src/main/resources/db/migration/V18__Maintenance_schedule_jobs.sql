@@ -0,0 +1,22 @@
+-- Flyway V18: Cluster-visible progress of maintenance schedule generation runs
+
+-- ─── maintenance_schedule_jobs ────────────────────────────────────────────────
+-- One row per run, so any node can answer GET /api/maintenance/schedule/jobs/{id}.
+-- status: RUNNING → COMPLETED | FAILED. The running node bumps heartbeat_at with every
+-- committed chunk; a RUNNING row whose heartbeat went stale is marked ABANDONED by the
+-- next start, which is what lets a new run begin after a node died mid-run.
+CREATE TABLE maintenance_schedule_jobs (
+    id                  UUID          PRIMARY KEY DEFAULT uuid_generate_v7(),
+    status              VARCHAR(10)   NOT NULL,
+    total_aircraft      BIGINT        NOT NULL DEFAULT 0,
+    processed_aircraft  BIGINT        NOT NULL DEFAULT 0,
+    records_created     BIGINT        NOT NULL DEFAULT 0,
+    chunks_completed    INTEGER       NOT NULL DEFAULT 0,
+    started_at          TIMESTAMPTZ   NOT NULL DEFAULT now(),
+    heartbeat_at        TIMESTAMPTZ   NOT NULL DEFAULT now(),
+    finished_at         TIMESTAMPTZ,
+    error               TEXT
+);
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+CREATE INDEX idx_maintenance_schedule_jobs_started ON maintenance_schedule_jobs(started_at DESC);
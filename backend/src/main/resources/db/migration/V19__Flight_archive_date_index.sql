@@ -0,0 +1,6 @@
+-- Flyway V19: Date index on the flight log archive
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+-- Fleet flight totals read the archive's date span on every call and sum archived
+-- flights by date when a window covers only part of it.
+CREATE INDEX idx_flight_archive_date ON flight_log_archive(date);
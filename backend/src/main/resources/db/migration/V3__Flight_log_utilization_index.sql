@@ -0,0 +1,7 @@
+-- Flyway V3: Covering index for fleet utilization windows
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+-- Lets the utilization stream run as an index-only range scan on date without
+-- touching the heap of flight_log_entries.
+CREATE INDEX idx_flight_logs_date_aircraft
+    ON flight_log_entries(date, aircraft_id) INCLUDE (total_flight_time);
@@ -0,0 +1,57 @@
+-- Flyway V4: Airport dimension, integer airport references and route counters
+
+-- ─── airports ─────────────────────────────────────────────────────────────────
+-- Names and coordinates are upserted from the bundled airports/airports.csv at startup.
+CREATE TABLE airports (
+    id          SERIAL           PRIMARY KEY,
+    code        VARCHAR(10)      NOT NULL UNIQUE,
+    name        VARCHAR(200),
+    city        VARCHAR(120),
+    country     VARCHAR(2),
+    latitude    DOUBLE PRECISION,
+    longitude   DOUBLE PRECISION
+);
+
+-- Every code already used by a flight log gets an id, even if the CSV doesn't know it
+INSERT INTO airports (code)
+SELECT UPPER(TRIM(departure_airport)) FROM flight_log_entries
+UNION
+SELECT UPPER(TRIM(arrival_airport)) FROM flight_log_entries;
+
+-- ─── flight_log_entries: VARCHAR codes → INTEGER ids ──────────────────────────
+ALTER TABLE flight_log_entries
+    ADD COLUMN departure_airport_id INTEGER REFERENCES airports(id),
+    ADD COLUMN arrival_airport_id   INTEGER REFERENCES airports(id);
+
+UPDATE flight_log_entries f
+SET departure_airport_id = d.id,
+    arrival_airport_id   = a.id
+FROM airports d, airports a
+WHERE d.code = UPPER(TRIM(f.departure_airport))
+  AND a.code = UPPER(TRIM(f.arrival_airport));
+
+ALTER TABLE flight_log_entries
+    ALTER COLUMN departure_airport_id SET NOT NULL,
+    ALTER COLUMN arrival_airport_id   SET NOT NULL,
+    DROP COLUMN departure_airport,
+    DROP COLUMN arrival_airport;
+
+-- ─── route_stats ──────────────────────────────────────────────────────────────
+-- Maintained incrementally by FlightLogService on create / update / delete.
+CREATE TABLE route_stats (
+    departure_airport_id INTEGER        NOT NULL REFERENCES airports(id),
+    arrival_airport_id   INTEGER        NOT NULL REFERENCES airports(id),
+    flight_count         BIGINT         NOT NULL DEFAULT 0,
+    total_flight_time    NUMERIC(14,1)  NOT NULL DEFAULT 0,
+    PRIMARY KEY (departure_airport_id, arrival_airport_id)
+);
+
+INSERT INTO route_stats (departure_airport_id, arrival_airport_id, flight_count, total_flight_time)
+SELECT departure_airport_id, arrival_airport_id, COUNT(*), SUM(total_flight_time)
+FROM flight_log_entries
+GROUP BY departure_airport_id, arrival_airport_id;
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+CREATE INDEX idx_flight_logs_departure   ON flight_log_entries(departure_airport_id);
+CREATE INDEX idx_flight_logs_arrival     ON flight_log_entries(arrival_airport_id);
+CREATE INDEX idx_route_stats_flight_count ON route_stats(flight_count DESC);
@@ -0,0 +1,17 @@
+-- Flyway V5: Rotating refresh tokens
+
+-- ─── refresh_tokens ───────────────────────────────────────────────────────────
+CREATE TABLE refresh_tokens (
+    id          UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id     UUID         NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    family_id   UUID         NOT NULL,
+    token_hash  VARCHAR(64)  NOT NULL UNIQUE,   -- SHA-256 hex of the opaque token
+    expires_at  TIMESTAMPTZ  NOT NULL,
+    used_at     TIMESTAMPTZ,
+    revoked     BOOLEAN      NOT NULL DEFAULT FALSE,
+    created_at  TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+CREATE INDEX idx_refresh_tokens_family     ON refresh_tokens(family_id);
+CREATE INDEX idx_refresh_tokens_expires_at ON refresh_tokens(expires_at);
@@ -0,0 +1,58 @@
+-- Flyway V6: Monotonic change sequence and delete tombstones for delta sync
+
+-- ─── Sequence ─────────────────────────────────────────────────────────────────
+CREATE SEQUENCE change_seq;
+
+ALTER TABLE aircraft            ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('change_seq');
+ALTER TABLE maintenance_records ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('change_seq');
+ALTER TABLE flight_log_entries  ADD COLUMN change_seq BIGINT NOT NULL DEFAULT nextval('change_seq');
+
+-- ─── sync_tombstones ──────────────────────────────────────────────────────────
+CREATE TABLE sync_tombstones (
+    change_seq   BIGINT       PRIMARY KEY DEFAULT nextval('change_seq'),
+    entity_type  VARCHAR(32)  NOT NULL,
+    entity_id    UUID         NOT NULL,
+    deleted_at   TIMESTAMPTZ  NOT NULL DEFAULT NOW()
+);
+
+-- ─── Triggers ─────────────────────────────────────────────────────────────────
+-- Stamped in the database so bulk SQL and cascaded deletes are captured too.
+CREATE FUNCTION bump_change_seq() RETURNS trigger AS $$
+BEGIN
+    NEW.change_seq := nextval('change_seq');
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION record_tombstone() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO sync_tombstones (entity_type, entity_id) VALUES (TG_ARGV[0], OLD.id);
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_aircraft_change_seq
+    BEFORE INSERT OR UPDATE ON aircraft
+    FOR EACH ROW EXECUTE FUNCTION bump_change_seq();
+CREATE TRIGGER trg_maintenance_change_seq
+    BEFORE INSERT OR UPDATE ON maintenance_records
+    FOR EACH ROW EXECUTE FUNCTION bump_change_seq();
+CREATE TRIGGER trg_flight_logs_change_seq
+    BEFORE INSERT OR UPDATE ON flight_log_entries
+    FOR EACH ROW EXECUTE FUNCTION bump_change_seq();
+
+CREATE TRIGGER trg_aircraft_tombstone
+    AFTER DELETE ON aircraft
+    FOR EACH ROW EXECUTE FUNCTION record_tombstone('AIRCRAFT');
+CREATE TRIGGER trg_maintenance_tombstone
+    AFTER DELETE ON maintenance_records
+    FOR EACH ROW EXECUTE FUNCTION record_tombstone('MAINTENANCE');
+CREATE TRIGGER trg_flight_logs_tombstone
+    AFTER DELETE ON flight_log_entries
+    FOR EACH ROW EXECUTE FUNCTION record_tombstone('FLIGHT_LOG');
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+CREATE INDEX idx_aircraft_change_seq          ON aircraft(change_seq);
+CREATE INDEX idx_maintenance_change_seq       ON maintenance_records(change_seq);
+CREATE INDEX idx_flight_logs_change_seq       ON flight_log_entries(change_seq);
+CREATE INDEX idx_flight_logs_pilot_change_seq ON flight_log_entries(pilot_id, change_seq);
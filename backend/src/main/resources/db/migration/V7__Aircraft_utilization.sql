@@ -0,0 +1,25 @@
+-- Flyway V7: Per-aircraft exponentially weighted utilization for due-date forecasting
+
+-- ─── aircraft_utilization ─────────────────────────────────────────────────────
+-- hours_per_day is an EWMA of daily flight hours, valid as of as_of. Reading it
+-- on a later day multiplies by decay^(days since as_of), so the row only needs
+-- writing when a flight is logged, edited or deleted.
+CREATE TABLE aircraft_utilization (
+    aircraft_id    UUID              PRIMARY KEY REFERENCES aircraft(id) ON DELETE CASCADE,
+    hours_per_day  DOUBLE PRECISION  NOT NULL,
+    as_of          DATE              NOT NULL,
+    updated_at     TIMESTAMPTZ       NOT NULL DEFAULT NOW()
+);
+
+-- ─── Backfill ─────────────────────────────────────────────────────────────────
+-- Default 30-day half-life: alpha = 1 - 0.5^(1/30). Re-run via
+-- POST /api/maintenance/forecast/rebuild after changing app.forecast.half-life-days.
+INSERT INTO aircraft_utilization (aircraft_id, hours_per_day, as_of)
+SELECT f.aircraft_id,
+       (1 - power(0.5::float8, 1.0 / 30))
+           * SUM(f.total_flight_time::float8 * power(0.5::float8, (m.last_date - f.date) / 30.0)),
+       m.last_date
+FROM flight_log_entries f
+JOIN (SELECT aircraft_id, MAX(date) AS last_date FROM flight_log_entries GROUP BY aircraft_id) m
+  ON m.aircraft_id = f.aircraft_id
+GROUP BY f.aircraft_id, m.last_date;
@@ -0,0 +1,7 @@
+-- Flyway V8: Index for recurring schedule generation
+
+-- ─── Indexes ──────────────────────────────────────────────────────────────────
+-- Serves both the latest-completed lookup (DISTINCT ON aircraft per check type)
+-- and the open-record NOT EXISTS probe that keeps generation idempotent.
+CREATE INDEX idx_maintenance_aircraft_check_status
+    ON maintenance_records(aircraft_id, check_type, status);
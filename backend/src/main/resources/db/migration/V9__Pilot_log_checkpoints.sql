@@ -0,0 +1,57 @@
+-- Flyway V9: Per-pilot carried-forward totals for date-range queries
+
+-- ─── pilot_log_checkpoints ────────────────────────────────────────────────────
+-- One row per pilot per day on which a flight was ever logged, holding running
+-- totals of everything up to and including that day — the "totals carried
+-- forward" line of a paper logbook. The total between two dates is the row at
+-- or before `to` minus the row before `from`.
+CREATE TABLE pilot_log_checkpoints (
+    pilot_id            UUID           NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    date                DATE           NOT NULL,
+    flights             BIGINT         NOT NULL DEFAULT 0,
+    total_time          NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    pic_time            NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    sic_time            NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    dual_received_time  NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    solo_time           NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    night_time          NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    ifr_time            NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    cross_country_time  NUMERIC(12,1)  NOT NULL DEFAULT 0,
+    day_landings        BIGINT         NOT NULL DEFAULT 0,
+    night_landings      BIGINT         NOT NULL DEFAULT 0,
+    PRIMARY KEY (pilot_id, date)
+);
+
+-- ─── Backfill ─────────────────────────────────────────────────────────────────
+INSERT INTO pilot_log_checkpoints
+    (pilot_id, date, flights, total_time, pic_time, sic_time, dual_received_time, solo_time,
+     night_time, ifr_time, cross_country_time, day_landings, night_landings)
+SELECT pilot_id, date,
+       SUM(flights)            OVER w,
+       SUM(total_time)         OVER w,
+       SUM(pic_time)           OVER w,
+       SUM(sic_time)           OVER w,
+       SUM(dual_received_time) OVER w,
+       SUM(solo_time)          OVER w,
+       SUM(night_time)         OVER w,
+       SUM(ifr_time)           OVER w,
+       SUM(cross_country_time) OVER w,
+       SUM(day_landings)       OVER w,
+       SUM(night_landings)     OVER w
+FROM (
+    SELECT pilot_id, date,
+           COUNT(*)                AS flights,
+           SUM(total_flight_time)  AS total_time,
+           SUM(pic_time)           AS pic_time,
+           SUM(sic_time)           AS sic_time,
+           SUM(dual_received_time) AS dual_received_time,
+           SUM(solo_time)          AS solo_time,
+           SUM(night_time)         AS night_time,
+           SUM(ifr_time)           AS ifr_time,
+           SUM(cross_country_time) AS cross_country_time,
+           SUM(day_landings)       AS day_landings,
+           SUM(night_landings)     AS night_landings
+    FROM flight_log_entries
+    GROUP BY pilot_id, date
+) daily
+WINDOW w AS (PARTITION BY pilot_id ORDER BY date);
@@ -0,0 +1,74 @@
+package com.pilotlogbook.repository;
+
+import com.pilotlogbook.IntegrationTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aircraft and users are read on almost every request; once loaded they must come from the
+ * second-level cache, by id and (users) by email, without another statement.
+ */
+class SecondLevelCacheTest extends IntegrationTest {
+
+    private static final UUID AIRCRAFT_ID = UUID.fromString("b0000000-0000-0000-0000-000000000001");
+    private static final UUID PILOT_ID = UUID.fromString("a0000000-0000-0000-0000-000000000001");
+    private static final String PILOT_EMAIL = "alex.thompson@demo.com";
+
+    @Autowired
+    private AircraftRepository aircraftRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void coldCache() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void repeatedAircraftLoadsHitTheCache() {
+        assertThat(aircraftRepository.findById(AIRCRAFT_ID)).isPresent();
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(aircraftRepository.findById(AIRCRAFT_ID)).isPresent();
+
+        assertThat(statistics.getDomainDataRegionStatistics("aircraft").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+    @Test
+    void repeatedUserLoadsHitTheCache() {
+        assertThat(userRepository.findById(PILOT_ID)).isPresent();
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(userRepository.findById(PILOT_ID)).isPresent();
+
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+
+    @Test
+    void repeatedLookupsByEmailHitTheNaturalIdCache() {
+        assertThat(userRepository.findByEmail(PILOT_EMAIL)).isPresent();
+        long statements = statistics.getPrepareStatementCount();
+        assertThat(userRepository.findByEmail(PILOT_EMAIL)).isPresent();
+
+        assertThat(statistics.getNaturalIdCacheHitCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(statements);
+    }
+}
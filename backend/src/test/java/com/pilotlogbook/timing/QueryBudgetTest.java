@@ -0,0 +1,387 @@
+package com.pilotlogbook.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pilotlogbook.IntegrationTest;
+import com.pilotlogbook.dto.AircraftRequest;
+import com.pilotlogbook.dto.AircraftResponse;
+import com.pilotlogbook.dto.AuthResponse;
+import com.pilotlogbook.dto.FlightLogRequest;
+import com.pilotlogbook.dto.FlightLogResponse;
+import com.pilotlogbook.dto.LoginRequest;
+import com.pilotlogbook.dto.LogoutRequest;
+import com.pilotlogbook.dto.MaintenanceRequest;
+import com.pilotlogbook.dto.MaintenanceResponse;
+import com.pilotlogbook.dto.RefreshRequest;
+import com.pilotlogbook.dto.RegisterRequest;
+import com.pilotlogbook.dto.ScheduleJobResponse;
+import com.pilotlogbook.model.enums.AircraftCategory;
+import com.pilotlogbook.model.enums.AircraftStatus;
+import com.pilotlogbook.model.enums.FlightRule;
+import com.pilotlogbook.model.enums.MaintenanceCheckType;
+import com.pilotlogbook.model.enums.MaintenanceStatus;
+import com.pilotlogbook.model.enums.UserRole;
+import com.pilotlogbook.model.enums.WeatherCondition;
+import com.pilotlogbook.security.JwtTokenProvider;
+import com.pilotlogbook.service.AircraftService;
+import com.pilotlogbook.service.ArchiveService;
+import com.pilotlogbook.service.AuthService;
+import com.pilotlogbook.service.FlightLogService;
+import com.pilotlogbook.service.MaintenanceScheduleService;
+import com.pilotlogbook.service.MaintenanceService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.request;
+
+/**
+ * Catches N+1 queries before release. Seeds the database through the services at two sizes,
+ * calls every endpoint with a cold second-level cache and reads its statement count from
+ * {@code Server-Timing}. A count must not grow with the data, and must stay within the budget
+ * committed in {@code query-budgets.txt}. Writes act on rows created for them in each round.
+ * <p>
+ * With {@code -Dquery-budgets.record=true} the budgets are not enforced; the measured counts are
+ * written to {@code target/query-budgets.txt} in the committed file's layout instead.
+ */
+@AutoConfigureMockMvc
+class QueryBudgetTest extends IntegrationTest {
+
+    private static final String BUDGETS = "query-budgets.txt";
+    private static final boolean RECORD = Boolean.getBoolean("query-budgets.record");
+    private static final UUID PILOT_ID = UUID.fromString("a0000000-0000-0000-0000-000000000001");
+    private static final String PILOT = "alex.thompson@demo.com";
+    private static final String FLEET_MANAGER = "sarah.chen@demo.com";
+    private static final String SEED_PASSWORD = "password123";
+    private static final String[] AIRPORTS = {"KATL", "KBOS", "KBUR", "KBWI"};
+    private static final Pattern SQL_COUNT = Pattern.compile("sql;[^,]*desc=\"(\\d+) statements\"");
+
+    /** Aircraft added per round, and flights per aircraft; both stay under default_batch_fetch_size. */
+    private static final int SMALL_FLEET = 2;
+    private static final int LARGE_FLEET = 6;
+    private static final int FLIGHTS_PER_AIRCRAFT = 6;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private AircraftService aircraftService;
+
+    @Autowired
+    private MaintenanceService maintenanceService;
+
+    @Autowired
+    private FlightLogService flightLogService;
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private MaintenanceScheduleService scheduleService;
+
+    @Autowired
+    private AuthService authService;
+
+    private final List<UUID> aircraftIds = new ArrayList<>();
+    private final List<UUID> flightIds = new ArrayList<>();
+    private final List<UUID> maintenanceIds = new ArrayList<>();
+    private int round;
+
+    @Test
+    void statementCountsStayFlatAndWithinBudget() throws Exception {
+        Map<String, Integer> budgets = readBudgets();
+        assertThat(budgets.keySet())
+                .as("every endpoint needs a budget in " + BUDGETS)
+                .containsAll(endpoints());
+        List<String> measured = budgets.entrySet().stream()
+                .filter(e -> e.getValue() > 0)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        seed(SMALL_FLEET);
+        Map<String, Integer> small = measure(measured);
+        seed(LARGE_FLEET - SMALL_FLEET);
+        Map<String, Integer> large = measure(measured);
+        if (RECORD) {
+            record(large);
+        }
+
+        List<String> failures = new ArrayList<>();
+        for (String endpoint : measured) {
+            int before = small.get(endpoint);
+            int after = large.get(endpoint);
+            int budget = budgets.get(endpoint);
+            if (after > before) {
+                failures.add(String.format("%s: %d statements with %d aircraft, %d with %d — grows with data (N+1)",
+                        endpoint, before, SMALL_FLEET, after, LARGE_FLEET));
+            } else if (after > budget && !RECORD) {
+                failures.add(String.format("%s: %d statements, budget %d", endpoint, after, budget));
+            }
+        }
+        if (!failures.isEmpty()) {
+            fail("Query budget violations:%n  %s", String.join(System.lineSeparator() + "  ", failures));
+        }
+    }
+
+    // ─── Seeding ──────────────────────────────────────────────────────────────
+
+    /** Adds {@code count} aircraft with maintenance history, current flights and archivable old ones. */
+    private void seed(int count) {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < count; i++) {
+            int n = aircraftIds.size();
+            AircraftResponse aircraft = aircraftService.create(aircraft("N" + (70000 + n), 1000 + n));
+            aircraftIds.add(aircraft.id());
+
+            for (int y = 5; y >= 4; y--) { // the older of the two is archived, the latest stays hot
+                LocalDate done = today.minusYears(y);
+                maintenanceService.create(new MaintenanceRequest(aircraft.id(), MaintenanceCheckType.ANNUAL,
+                        MaintenanceStatus.COMPLETED, done, done, 900 + n, null, done.plusYears(1),
+                        "A. Mechanic", null, 1200.0, null));
+            }
+            MaintenanceResponse due = maintenanceService.create(due(aircraft.id(), 1000 + n));
+            maintenanceIds.add(due.id());
+
+            for (int f = 0; f < FLIGHTS_PER_AIRCRAFT; f++) {
+                FlightLogResponse flight = flightLogService.create(PILOT_ID, flight(aircraft.id(),
+                        today.minusDays(n * FLIGHTS_PER_AIRCRAFT + f + 1), f));
+                flightIds.add(flight.id());
+            }
+            for (int f = 0; f < 2; f++) {
+                flightLogService.create(PILOT_ID, flight(aircraft.id(), today.minusYears(10).minusDays(n * 2 + f), f));
+            }
+        }
+        archiveService.run();
+    }
+
+    /** Rows each round's writes act on, so that no write depends on another having run. */
+    private Fixtures fixtures() {
+        round++;
+        LocalDate today = LocalDate.now();
+        UUID aircraftId = aircraftIds.get(0);
+        return new Fixtures(
+                aircraftService.create(aircraft("N8" + round + "0", 500)).id(),
+                aircraftService.create(aircraft("N8" + round + "1", 500)).id(),
+                flightLogService.create(PILOT_ID, flight(aircraftId, today.minusDays(200 + 3L * round), 0)).id(),
+                flightLogService.create(PILOT_ID, flight(aircraftId, today.minusDays(201 + 3L * round), 1)).id(),
+                maintenanceService.create(due(aircraftId, 1000)).id(),
+                maintenanceService.create(due(aircraftId, 1000)).id(),
+                authService.login(new LoginRequest(PILOT, SEED_PASSWORD)),
+                authService.login(new LoginRequest(PILOT, SEED_PASSWORD)));
+    }
+
+    private static AircraftRequest aircraft(String tailNumber, double airframeHours) {
+        return new AircraftRequest(tailNumber, "Cessna", "172 Skyhawk", 2015, AircraftCategory.SINGLE_ENGINE_LAND,
+                airframeHours, AircraftStatus.AIRWORTHY, 1, 3, null, null);
+    }
+
+    private static MaintenanceRequest due(UUID aircraftId, double hours) {
+        LocalDate date = LocalDate.now().plusDays(20);
+        return new MaintenanceRequest(aircraftId, MaintenanceCheckType.HUNDRED_HOUR, MaintenanceStatus.DUE, date,
+                null, hours, hours + 100.0, date, null, null, null, null);
+    }
+
+    private static FlightLogRequest flight(UUID aircraftId, LocalDate date, int f) {
+        return new FlightLogRequest(aircraftId, date, AIRPORTS[f % AIRPORTS.length], AIRPORTS[(f + 1) % AIRPORTS.length],
+                1.5, 1.5, 0, 0, 0, f % 2 == 0 ? 0.5 : 0, 0, 1.5, 1, f % 2, WeatherCondition.VMC, FlightRule.VFR,
+                "Pattern work", List.of("ILS"), null);
+    }
+
+    private void awaitSchedule(UUID jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (scheduleService.getJob(jobId).finishedAt() == null) {
+            if (System.nanoTime() > deadline) {
+                fail("Maintenance schedule generation did not finish");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    // ─── Measuring ────────────────────────────────────────────────────────────
+
+    private Map<String, Integer> measure(List<String> endpoints) throws Exception {
+        ScheduleJobResponse job = scheduleService.start();
+        awaitSchedule(job.jobId());
+        Fixtures fixtures = fixtures();
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String endpoint : endpoints) {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+            MvcResult result = mockMvc.perform(requestFor(endpoint, job.jobId(), fixtures)).andReturn();
+            assertThat(result.getResponse().getStatus()).as(endpoint).isBetween(200, 299);
+            String serverTiming = result.getResponse().getHeader(RequestTimingFilter.SERVER_TIMING);
+            Matcher m = SQL_COUNT.matcher(serverTiming != null ? serverTiming : "");
+            assertThat(m.find()).as(endpoint + " Server-Timing: " + serverTiming).isTrue();
+            counts.put(endpoint, Integer.parseInt(m.group(1)));
+            if (endpoint.equals("POST /api/maintenance/schedule/generate")) {
+                // the run outlives the request; let it finish before it skews the next count
+                awaitSchedule(objectMapper.readValue(result.getResponse().getContentAsByteArray(),
+                        ScheduleJobResponse.class).jobId());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * A concrete request for a budget key: reads point at the first seeded row of each kind, writes
+     * at this round's fixtures. Auth endpoints go out anonymous, flight writes as the pilot and
+     * everything else as a fleet manager.
+     */
+    private MockHttpServletRequestBuilder requestFor(String endpoint, UUID jobId, Fixtures fixtures) throws Exception {
+        String method = endpoint.substring(0, endpoint.indexOf(' '));
+        String path = endpoint.substring(endpoint.indexOf(' ') + 1);
+        boolean read = method.equals("GET");
+        LocalDate today = LocalDate.now();
+
+        String uri = switch (path) {
+            case "/api/aircraft/{id}" -> "/api/aircraft/" + (read ? aircraftIds.get(0)
+                    : method.equals("PUT") ? fixtures.aircraftToUpdate() : fixtures.aircraftToDelete());
+            case "/api/flights/{id}" -> "/api/flights/" + (read ? flightIds.get(0)
+                    : method.equals("PUT") ? fixtures.flightToUpdate() : fixtures.flightToDelete());
+            case "/api/maintenance/{id}" -> "/api/maintenance/" + (read ? maintenanceIds.get(0)
+                    : method.equals("PUT") ? fixtures.maintenanceToUpdate() : fixtures.maintenanceToDelete());
+            case "/api/maintenance/schedule/jobs/{jobId}" -> "/api/maintenance/schedule/jobs/" + jobId;
+            case "/api/audit/{entityId}" -> "/api/audit/" + aircraftIds.get(0);
+            case "/api/search" -> "/api/search?q=pattern";
+            case "/api/sync" -> "/api/sync?since=0&limit=1000";
+            default -> path;
+        };
+        uri = uri.replace("{pilotId}", PILOT_ID.toString())
+                .replace("{aircraftId}", aircraftIds.get(0).toString());
+
+        Object body = switch (endpoint) {
+            case "POST /api/auth/register" -> new RegisterRequest("Budget Pilot " + round,
+                    "budget.pilot" + round + "@demo.com", SEED_PASSWORD, UserRole.PILOT);
+            case "POST /api/auth/login" -> new LoginRequest(PILOT, SEED_PASSWORD);
+            case "POST /api/auth/refresh" -> new RefreshRequest(fixtures.refreshable().refreshToken());
+            case "POST /api/auth/logout" -> new LogoutRequest(fixtures.loggedIn().refreshToken());
+            case "POST /api/aircraft" -> aircraft("N9" + round + "0", 500);
+            case "PUT /api/aircraft/{id}" -> aircraft("N8" + round + "0", 510);
+            case "POST /api/flights/pilot/{pilotId}" ->
+                    flight(aircraftIds.get(0), today.minusDays(202 + 3L * round), 2);
+            case "PUT /api/flights/{id}" -> flight(aircraftIds.get(0), today.minusDays(200 + 3L * round), 0);
+            case "POST /api/maintenance", "PUT /api/maintenance/{id}" -> due(aircraftIds.get(0), 1000);
+            default -> null;
+        };
+
+        String token;
+        if (path.equals("/api/auth/logout")) {
+            token = fixtures.loggedIn().token();
+        } else if (path.startsWith("/api/auth/")) {
+            token = null;
+        } else if (!read && (path.equals("/api/flights/pilot/{pilotId}") || path.equals("/api/flights/{id}"))) {
+            token = jwtTokenProvider.generateToken(PILOT);
+        } else {
+            token = jwtTokenProvider.generateToken(FLEET_MANAGER);
+        }
+
+        MockHttpServletRequestBuilder request = request(HttpMethod.valueOf(method), uri);
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            request.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsBytes(body));
+        }
+        return request;
+    }
+
+    // ─── Budgets ──────────────────────────────────────────────────────────────
+
+    private static Map<String, Integer> readBudgets() throws IOException {
+        Map<String, Integer> budgets = new LinkedHashMap<>();
+        for (String line : readBudgetLines()) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            String[] f = line.split("\\s+");
+            assertThat(f).as(BUDGETS + ": " + line).hasSize(3);
+            budgets.put(f[0] + " " + f[1], Integer.parseInt(f[2]));
+        }
+        return budgets;
+    }
+
+    private static List<String> readBudgetLines() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new ClassPathResource(BUDGETS).getInputStream(), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    /** The committed file with every measured budget replaced by the count just seen. */
+    private static void record(Map<String, Integer> counts) throws IOException {
+        List<String> lines = new ArrayList<>();
+        for (String line : readBudgetLines()) {
+            String[] f = line.strip().split("\\s+");
+            Integer count = f.length == 3 ? counts.get(f[0] + " " + f[1]) : null;
+            if (count != null && !line.startsWith("#")) {
+                String key = line.substring(0, line.length() - f[2].length()).stripTrailing();
+                int width = Math.max(line.length() - key.length(), String.valueOf(count).length() + 1);
+                line = String.format("%s%" + width + "d", key, count);
+            }
+            lines.add(line);
+        }
+        Path target = Path.of("target", BUDGETS);
+        Files.createDirectories(target.getParent());
+        Files.write(target, lines, StandardCharsets.UTF_8);
+    }
+
+    private TreeSet<String> endpoints() {
+        TreeSet<String> endpoints = new TreeSet<>();
+        handlerMapping.getHandlerMethods().keySet().forEach(info -> {
+            for (RequestMethod method : info.getMethodsCondition().getMethods()) {
+                info.getPatternValues().stream()
+                        .filter(p -> p.startsWith("/api/"))
+                        .forEach(p -> endpoints.add(method.name() + " " + p));
+            }
+        });
+        return endpoints;
+    }
+
+    private record Fixtures(UUID aircraftToUpdate, UUID aircraftToDelete, UUID flightToUpdate,
+            UUID flightToDelete, UUID maintenanceToUpdate, UUID maintenanceToDelete,
+            AuthResponse refreshable, AuthResponse loggedIn) {
+    }
+}
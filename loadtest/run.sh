@@ -0,0 +1,100 @@
+#!/usr/bin/env bash
+# ─────────────────────────────────────────────────────────────────────────────
+# run.sh  —  Seeds a load-test database, boots the backend and runs Gatling
+# Run: bash run.sh [--update-baseline]
+#   Database : libpq variables (PGHOST, PGPORT, PGUSER, PGPASSWORD, PGDATABASE)
+#              — use a dedicated database; the seed replaces route_stats.
+#   Backend  : backend/target/*.jar (built if missing) on $PORT, rate limiting on;
+#              each virtual user sends its own X-Forwarded-For address
+#   Tuning   : DURATION (s), PILOTS, MANAGERS, LOGIN_BURST, SEED_PILOTS,
+#              SEED_MANAGERS, SEED_AIRCRAFT, SEED_FLIGHTS_PER_PILOT
+#   Report   : target/gatling/<run>/index.html; assertions compare against
+#              baseline.properties and fail the run on regression.
+# ─────────────────────────────────────────────────────────────────────────────
+
+set -e
+
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:$PORT"
+SEED_PILOTS="${SEED_PILOTS:-200}"
+SEED_MANAGERS="${SEED_MANAGERS:-20}"
+cd "$(dirname "$0")"
+
+JAR=$(ls ../backend/target/*.jar 2>/dev/null | grep -v original | head -n 1 || true)
+if [ -z "$JAR" ]; then
+  (cd ../backend && mvn -B -q package -DskipTests)
+  JAR=$(ls ../backend/target/*.jar | grep -v original | head -n 1)
+fi
+
+export SPRING_DATASOURCE_URL="${SPRING_DATASOURCE_URL:-jdbc:postgresql://${PGHOST:-localhost}:${PGPORT:-5432}/${PGDATABASE:-pilot_logbook_loadtest}}"
+export SPRING_DATASOURCE_USERNAME="${SPRING_DATASOURCE_USERNAME:-${PGUSER:-postgres}}"
+export SPRING_DATASOURCE_PASSWORD="${SPRING_DATASOURCE_PASSWORD:-$PGPASSWORD}"
+export PGDATABASE="${PGDATABASE:-pilot_logbook_loadtest}"
+
+BACKEND_PID=""
+start_backend() {
+  java -jar "$JAR" --server.port="$PORT" --server.forward-headers-strategy=native \
+       --app.search.rebuild-on-startup=false > target/backend.log 2>&1 &
+  BACKEND_PID=$!
+  for _ in $(seq 1 120); do
+    curl -fs "$BASE_URL/actuator/health" > /dev/null && return 0
+    sleep 1
+  done
+  echo "Backend did not become healthy; see target/backend.log" && exit 1
+}
+stop_backend() {
+  [ -n "$BACKEND_PID" ] && kill "$BACKEND_PID" 2>/dev/null && wait "$BACKEND_PID" 2>/dev/null || true
+  BACKEND_PID=""
+}
+trap stop_backend EXIT
+mkdir -p target
+
+# First boot migrates the schema and loads airports; the seed needs both.
+# Restarting afterwards keeps in-process caches from holding pre-seed state.
+echo "==> Migrating schema"
+start_backend && stop_backend
+
+echo "==> Seeding synthetic data"
+psql -X -q -v pilots="$SEED_PILOTS" -v managers="$SEED_MANAGERS" \
+     -v aircraft="${SEED_AIRCRAFT:-100}" -v flights_per_pilot="${SEED_FLIGHTS_PER_PILOT:-500}" \
+     -f seed/synthetic-data.sql
+
+echo "==> Starting backend"
+start_backend
+TOKEN=$(curl -fs -H 'Content-Type: application/json' \
+  -d '{"email":"manager1@loadtest.local","password":"password123"}' \
+  "$BASE_URL/api/auth/login" | python3 -c 'import json,sys; print(json.load(sys.stdin)["token"])')
+curl -fs -X POST -H "Authorization: Bearer $TOKEN" "$BASE_URL/api/maintenance/forecast/rebuild" > /dev/null
+
+echo "==> Running Gatling"
+set +e
+mvn -B gatling:test -DbaseUrl="$BASE_URL" -DdurationSeconds="${DURATION:-300}" \
+    -Dpilots="${PILOTS:-100}" -Dmanagers="${MANAGERS:-10}" -DloginBurst="${LOGIN_BURST:-50}" \
+    -DseededPilots="$SEED_PILOTS" -DseededManagers="$SEED_MANAGERS"
+STATUS=$?
+set -e
+
+if [ "$1" = "--update-baseline" ]; then
+  STATS=$(ls -td target/gatling/*/ | head -n 1)js/stats.json
+  python3 - "$STATS" baseline.properties <<'PY'
+import json, sys
+stats, out = json.load(open(sys.argv[1])), sys.argv[2]
+tolerance = "0.20"
+header = []
+for line in open(out):
+    if line.startswith("#"):
+        header.append(line)
+    elif line.startswith("tolerance="):
+        tolerance = line.split("=", 1)[1].strip()
+lines = ["tolerance=" + tolerance,
+         "global.rps=%.1f" % stats["stats"]["meanNumberOfRequestsPerSecond"]["total"]]
+for req in sorted(stats["contents"].values(), key=lambda r: r["name"]):
+    s = req["stats"]
+    lines.append("%s.p95=%d" % (req["name"], s["percentiles3"]["ok"]))   # gatling.conf: 50/75/95/99
+    lines.append("%s.p99=%d" % (req["name"], s["percentiles4"]["ok"]))
+open(out, "w").write("".join(header) + "\n".join(lines) + "\n")
+PY
+  echo "==> Baseline updated from $STATS"
+  exit 0
+fi
+exit $STATUS
@@ -0,0 +1,155 @@
+-- ─────────────────────────────────────────────────────────────────────────────
+-- synthetic-data.sql  —  Reproducible load-test data set
+-- Run: psql -v pilots=200 -v managers=20 -v aircraft=100 -v flights_per_pilot=500 -f seed/synthetic-data.sql
+--   Expects a database already migrated and started once by the backend (Flyway
+--   schema, airports loaded from the bundled CSV). Intended for a dedicated
+--   load-test database: route_stats is recomputed from the hot table.
+--   Every user's password is "password123", as in the V2 demo seed.
+-- ─────────────────────────────────────────────────────────────────────────────
+
+\set ON_ERROR_STOP on
+\if :{?pilots}
+\else
+  \set pilots 200
+\endif
+\if :{?managers}
+\else
+  \set managers 20
+\endif
+\if :{?aircraft}
+\else
+  \set aircraft 100
+\endif
+\if :{?flights_per_pilot}
+\else
+  \set flights_per_pilot 500
+\endif
+
+BEGIN;
+
+SELECT setseed(0.42);
+
+-- ─── Previous run ─────────────────────────────────────────────────────────────
+DELETE FROM users    WHERE email LIKE '%@loadtest.local';
+DELETE FROM aircraft WHERE tail_number LIKE 'LT-%';
+
+-- ─── Users ────────────────────────────────────────────────────────────────────
+INSERT INTO users (name, email, password, role, certificate_number, medical_class, medical_expiry, avatar_initials)
+SELECT 'Load Pilot ' || g, 'pilot' || g || '@loadtest.local',
+       '$2a$12$K9FtwvO5T2yyBq577Y0Eqe7Hn6yvD6lV3r2MOdz5k4QST3jTzFZG2',
+       'PILOT', 'LT-' || lpad(g::text, 6, '0'), 'Second Class', '2030-01-01', 'LP'
+FROM generate_series(1, :pilots) g;
+
+INSERT INTO users (name, email, password, role, avatar_initials)
+SELECT 'Load Manager ' || g, 'manager' || g || '@loadtest.local',
+       '$2a$12$K9FtwvO5T2yyBq577Y0Eqe7Hn6yvD6lV3r2MOdz5k4QST3jTzFZG2',
+       'FLEET_MANAGER', 'LM'
+FROM generate_series(1, :managers) g;
+
+-- ─── Aircraft ─────────────────────────────────────────────────────────────────
+INSERT INTO aircraft (tail_number, make, model, year, category, total_airframe_hours, status, engine_count, max_passengers)
+SELECT 'LT-' || lpad(g::text, 4, '0'),
+       (ARRAY['Cessna', 'Piper', 'Diamond', 'Beechcraft', 'Cirrus'])[1 + g % 5],
+       (ARRAY['172S', 'PA-28-181', 'DA40', 'Baron 58', 'SR22'])[1 + g % 5],
+       1995 + g % 28,
+       (ARRAY['SINGLE_ENGINE_LAND', 'SINGLE_ENGINE_LAND', 'SINGLE_ENGINE_LAND',
+              'MULTI_ENGINE_LAND', 'SINGLE_ENGINE_LAND'])[1 + g % 5]::aircraft_category,
+       round((500 + random() * 9500)::numeric, 1),
+       (CASE WHEN g % 17 = 0 THEN 'MAINTENANCE' ELSE 'AIRWORTHY' END)::aircraft_status,
+       CASE WHEN g % 5 = 3 THEN 2 ELSE 1 END,
+       CASE WHEN g % 5 = 3 THEN 6 ELSE 4 END
+FROM generate_series(1, :aircraft) g;
+
+-- ─── Maintenance records ──────────────────────────────────────────────────────
+-- One completed annual per aircraft, plus an open 100-hour check that is due soon
+-- on roughly a third of the fleet and overdue on a tenth of it.
+INSERT INTO maintenance_records (aircraft_id, check_type, status, scheduled_date, completed_date,
+                                 hours_at_check, next_due_hours, next_due_date, technician, squawks, cost)
+SELECT a.id, 'ANNUAL', 'COMPLETED', d, d, a.total_airframe_hours - 80, NULL, d + INTERVAL '12 months',
+       'Load Test Avionics', 'Left brake worn, replaced pads', 2400.00
+FROM aircraft a, LATERAL (SELECT CURRENT_DATE - (30 + floor(random() * 300))::int AS d) s
+WHERE a.tail_number LIKE 'LT-%';
+
+INSERT INTO maintenance_records (aircraft_id, check_type, status, scheduled_date, hours_at_check,
+                                 next_due_hours, next_due_date, technician)
+SELECT a.id, 'HUNDRED_HOUR',
+       (CASE WHEN random() < 0.1 THEN 'OVERDUE' ELSE 'DUE' END)::maintenance_status,
+       CURRENT_DATE + (floor(random() * 90) - 10)::int,
+       a.total_airframe_hours, a.total_airframe_hours + (floor(random() * 100))::int,
+       CURRENT_DATE + (floor(random() * 90) - 10)::int, 'Load Test Avionics'
+FROM aircraft a
+WHERE a.tail_number LIKE 'LT-%';
+
+-- ─── Flight logs ──────────────────────────────────────────────────────────────
+-- Dates span five years; airports and aircraft are drawn per row (random() in the
+-- select list, not an uncorrelated subquery, which Postgres would evaluate once).
+WITH pilots AS (
+    SELECT id FROM users WHERE email LIKE 'pilot%@loadtest.local'
+), fleet AS (
+    SELECT array_agg(id) AS ids, count(*) AS n FROM aircraft WHERE tail_number LIKE 'LT-%'
+), ports AS (
+    SELECT array_agg(id) AS ids, count(*) AS n FROM (SELECT id FROM airports ORDER BY id LIMIT 200) p
+), drawn AS (
+    SELECT p.id AS pilot_id,
+           fleet.ids[1 + floor(random() * fleet.n)::int] AS aircraft_id,
+           CURRENT_DATE - floor(random() * 1825)::int AS date,
+           ports.ids[1 + floor(random() * ports.n)::int] AS departure_airport_id,
+           ports.ids[1 + floor(random() * ports.n)::int] AS arrival_airport_id,
+           round((0.5 + random() * 4.5)::numeric, 1) AS total_flight_time,
+           random() AS r
+    FROM pilots p, fleet, ports, generate_series(1, :flights_per_pilot) g
+)
+INSERT INTO flight_log_entries (pilot_id, aircraft_id, date, departure_airport_id, arrival_airport_id,
+                                total_flight_time, pic_time, solo_time, night_time, ifr_time, cross_country_time,
+                                day_landings, night_landings, weather_condition, flight_rule, remarks, fingerprint)
+SELECT pilot_id, aircraft_id, date, departure_airport_id, arrival_airport_id,
+       total_flight_time, total_flight_time,
+       CASE WHEN r < 0.2 THEN total_flight_time ELSE 0 END,
+       CASE WHEN r > 0.8 THEN round(total_flight_time / 2, 1) ELSE 0 END,
+       CASE WHEN r > 0.6 THEN round(total_flight_time / 3, 1) ELSE 0 END,
+       CASE WHEN departure_airport_id <> arrival_airport_id THEN total_flight_time ELSE 0 END,
+       1 + (r * 3)::int, CASE WHEN r > 0.8 THEN 1 ELSE 0 END,
+       (CASE WHEN r > 0.6 THEN 'IMC' ELSE 'VMC' END)::weather_condition,
+       (CASE WHEN r > 0.6 THEN 'IFR' ELSE 'VFR' END)::flight_rule,
+       'Synthetic load-test flight',
+       -- Same natural key as FlightDeduplicationService.fingerprint() (see V10)
+       digest(pilot_id::text || '|' || aircraft_id::text || '|' || to_char(date, 'YYYY-MM-DD') || '|'
+              || departure_airport_id || '|' || arrival_airport_id || '|' || total_flight_time::text,
+              'sha256')
+FROM drawn
+ON CONFLICT (fingerprint) DO NOTHING;
+
+-- ─── Derived tables ───────────────────────────────────────────────────────────
+-- Maintained incrementally by the application, so bulk-loaded rows need a rebuild.
+-- Aircraft utilization is rebuilt by run.sh through POST /api/maintenance/forecast/rebuild.
+TRUNCATE route_stats;
+INSERT INTO route_stats (departure_airport_id, arrival_airport_id, flight_count, total_flight_time)
+SELECT departure_airport_id, arrival_airport_id, COUNT(*), SUM(total_flight_time)
+FROM flight_log_entries
+GROUP BY departure_airport_id, arrival_airport_id;
+
+INSERT INTO pilot_log_checkpoints
+    (pilot_id, date, flights, total_time, pic_time, sic_time, dual_received_time, solo_time,
+     night_time, ifr_time, cross_country_time, day_landings, night_landings)
+SELECT pilot_id, date,
+       SUM(flights) OVER w, SUM(total_time) OVER w, SUM(pic_time) OVER w, SUM(sic_time) OVER w,
+       SUM(dual_received_time) OVER w, SUM(solo_time) OVER w, SUM(night_time) OVER w,
+       SUM(ifr_time) OVER w, SUM(cross_country_time) OVER w,
+       SUM(day_landings) OVER w, SUM(night_landings) OVER w
+FROM (
+    SELECT f.pilot_id, f.date, COUNT(*) AS flights,
+           SUM(total_flight_time) AS total_time, SUM(pic_time) AS pic_time, SUM(sic_time) AS sic_time,
+           SUM(dual_received_time) AS dual_received_time, SUM(solo_time) AS solo_time,
+           SUM(night_time) AS night_time, SUM(ifr_time) AS ifr_time,
+           SUM(cross_country_time) AS cross_country_time,
+           SUM(day_landings) AS day_landings, SUM(night_landings) AS night_landings
+    FROM flight_log_entries f
+    JOIN users u ON u.id = f.pilot_id
+    WHERE u.email LIKE 'pilot%@loadtest.local'
+    GROUP BY f.pilot_id, f.date
+) daily
+WINDOW w AS (PARTITION BY pilot_id ORDER BY date);
+
+COMMIT;
+
+ANALYZE users, aircraft, maintenance_records, flight_log_entries, route_stats, pilot_log_checkpoints;
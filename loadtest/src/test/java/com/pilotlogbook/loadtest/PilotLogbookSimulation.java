@@ -0,0 +1,199 @@
+package com.pilotlogbook.loadtest;
+
+import io.gatling.javaapi.core.Assertion;
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Session;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+import io.gatling.javaapi.http.HttpRequestActionBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * Realistic traffic mix against a backend seeded by {@code seed/synthetic-data.sql}:
+ * pilots logging flights and reading their stats, fleet managers polling dashboards, and
+ * periodic login bursts. Request names are the keys of {@code baseline.properties}; any
+ * endpoint slower than its baseline p95/p99 by more than {@code tolerance}, or global
+ * throughput below baseline by the same margin, fails the run. Every virtual user sends its own
+ * {@code X-Forwarded-For} address, so rate limiting sees separate clients as it would behind the
+ * load balancer.
+ */
+public class PilotLogbookSimulation extends Simulation {
+
+    private static final String PASSWORD = "password123";
+
+    private static final String BASE_URL = System.getProperty("baseUrl", "http://localhost:8080");
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("durationSeconds", 300));
+    private static final int PILOTS = Integer.getInteger("pilots", 100);
+    private static final int MANAGERS = Integer.getInteger("managers", 10);
+    private static final int LOGIN_BURST = Integer.getInteger("loginBurst", 50);
+    private static final int SEEDED_PILOTS = Integer.getInteger("seededPilots", 200);
+    private static final int SEEDED_MANAGERS = Integer.getInteger("seededManagers", 20);
+
+    private final HttpProtocolBuilder protocol = http
+            .baseUrl(BASE_URL)
+            .acceptHeader("application/json")
+            .contentTypeHeader("application/json")
+            .header("X-Forwarded-For", "#{clientIp}")
+            .shareConnections();
+
+    // ─── Chains ───────────────────────────────────────────────────────────────
+
+    private final ChainBuilder login = exec(http("login").post("/api/auth/login")
+            .body(StringBody("{\"email\":\"#{email}\",\"password\":\"" + PASSWORD + "\"}"))
+            .check(jsonPath("$.token").saveAs("token"),
+                    jsonPath("$.refreshToken").saveAs("refreshToken"),
+                    jsonPath("$.userId").saveAs("userId")));
+
+    private final ChainBuilder refresh = exec(http("refresh").post("/api/auth/refresh")
+            .body(StringBody("{\"refreshToken\":\"#{refreshToken}\"}"))
+            .check(jsonPath("$.token").saveAs("token"),
+                    jsonPath("$.refreshToken").saveAs("refreshToken")));
+
+    private final ChainBuilder lookups = exec(
+            authed(http("aircraft-list").get("/api/aircraft"))
+                    .check(jsonPath("$[*].id").findAll().saveAs("aircraftIds")),
+            authed(http("airports").get("/api/airports"))
+                    .check(jsonPath("$[*].code").findAll().saveAs("airportCodes")));
+
+    private final ChainBuilder logFlight = exec(authed(http("create-flight").post("/api/flights/pilot/#{userId}"))
+            .header("Idempotency-Key", session -> UUID.randomUUID().toString())
+            .body(StringBody(PilotLogbookSimulation::flightJson))
+            .check(status().is(201)));
+
+    // ─── Scenarios ────────────────────────────────────────────────────────────
+
+    private final ScenarioBuilder pilots = scenario("Pilots")
+            .feed(users("pilot", SEEDED_PILOTS))
+            .exec(login, lookups)
+            .during(DURATION).on(
+                    randomSwitch().on(
+                            percent(35.0).then(exec(authed(http("pilot-flights").get("/api/flights/pilot/#{userId}")))),
+                            percent(25.0).then(exec(authed(http("pilot-stats").get("/api/flights/pilot/#{userId}/stats")))),
+                            percent(15.0).then(exec(authed(http("pilot-totals")
+                                    .get("/api/flights/pilot/#{userId}/totals?from=" + LocalDate.now().minusYears(1))))),
+                            percent(25.0).then(logFlight))
+                    .pause(Duration.ofSeconds(1), Duration.ofSeconds(4)));
+
+    private final ScenarioBuilder managers = scenario("Fleet managers")
+            .feed(users("manager", SEEDED_MANAGERS))
+            .exec(login)
+            .during(DURATION).on(
+                    randomSwitch().on(
+                            percent(40.0).then(exec(authed(http("fleet-stats").get("/api/aircraft/fleet-stats")))),
+                            percent(30.0).then(exec(authed(http("alerts").get("/api/aircraft/alerts")))),
+                            percent(20.0).then(exec(authed(http("forecast").get("/api/maintenance/forecast")))),
+                            percent(10.0).then(exec(authed(http("utilization").get("/api/aircraft/utilization")))))
+                    .pause(Duration.ofSeconds(2), Duration.ofSeconds(5)));
+
+    /** Shift change: many pilots signing in within a few seconds, then rotating their refresh token. */
+    private final ScenarioBuilder loginBurst = scenario("Login burst")
+            .feed(users("pilot", SEEDED_PILOTS))
+            .exec(login, refresh);
+
+    {
+        Duration rampUp = Duration.ofSeconds(30);
+        Duration burstEvery = DURATION.dividedBy(3);
+
+        setUp(
+                pilots.injectOpen(rampUsers(PILOTS).during(rampUp)),
+                managers.injectOpen(rampUsers(MANAGERS).during(rampUp)),
+                loginBurst.injectOpen(
+                        nothingFor(burstEvery), atOnceUsers(LOGIN_BURST),
+                        nothingFor(burstEvery), rampUsers(LOGIN_BURST).during(Duration.ofSeconds(5))))
+                .protocols(protocol)
+                .maxDuration(DURATION.plus(rampUp).plusSeconds(30))
+                .assertions(assertions());
+    }
+
+    // ─── Helpers ──────────────────────────────────────────────────────────────
+
+    private static HttpRequestActionBuilder authed(HttpRequestActionBuilder request) {
+        return request.header("Authorization", "Bearer #{token}");
+    }
+
+    private static Iterator<Map<String, Object>> users(String prefix, int count) {
+        return Stream.generate(() -> {
+                    ThreadLocalRandom rnd = ThreadLocalRandom.current();
+                    return Map.<String, Object>of(
+                            "email", prefix + (1 + rnd.nextInt(count)) + "@loadtest.local",
+                            "clientIp", "198.18." + rnd.nextInt(256) + '.' + (1 + rnd.nextInt(254)));
+                })
+                .iterator();
+    }
+
+    private static String flightJson(Session session) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        List<String> aircraftIds = session.getList("aircraftIds");
+        List<String> airports = session.getList("airportCodes");
+        double total = Math.round((0.5 + rnd.nextDouble() * 3.5) * 10) / 10.0;
+        return String.format(Locale.ROOT, """
+                {"aircraftId":"%s","date":"%s","departureAirport":"%s","arrivalAirport":"%s",\
+                "totalFlightTime":%.1f,"picTime":%.1f,"sicTime":0,"dualReceivedTime":0,"soloTime":0,\
+                "nightTime":0,"ifrTime":0,"crossCountryTime":%.1f,"dayLandings":%d,"nightLandings":0,\
+                "weatherCondition":"VMC","flightRule":"VFR","remarks":"Gatling","approachTypes":[]}""",
+                aircraftIds.get(rnd.nextInt(aircraftIds.size())),
+                LocalDate.now().minusDays(rnd.nextInt(30)),
+                airports.get(rnd.nextInt(airports.size())),
+                airports.get(rnd.nextInt(airports.size())),
+                total, total, total, 1 + rnd.nextInt(3));
+    }
+
+    /**
+     * Regression gates from the baseline file: {@code <request>.p95} / {@code <request>.p99}
+     * in ms and {@code global.rps}, each allowed to drift by {@code tolerance} (default 20%).
+     */
+    private static List<Assertion> assertions() {
+        List<Assertion> assertions = new ArrayList<>();
+        assertions.add(global().failedRequests().percent().lte(1.0));
+
+        Properties baseline = loadBaseline();
+        double tolerance = Double.parseDouble(baseline.getProperty("tolerance", "0.20"));
+        for (String key : baseline.stringPropertyNames()) {
+            double value = Double.parseDouble(baseline.getProperty(key));
+            int dot = key.lastIndexOf('.');
+            String name = key.substring(0, Math.max(dot, 0));
+            String metric = key.substring(dot + 1);
+            int maxMs = (int) Math.ceil(value * (1 + tolerance));
+            switch (metric) {
+                case "p95" -> assertions.add(details(name).responseTime().percentile(95.0).lte(maxMs));
+                case "p99" -> assertions.add(details(name).responseTime().percentile(99.0).lte(maxMs));
+                case "rps" -> assertions.add(global().requestsPerSec().gte(value * (1 - tolerance)));
+                default -> { /* tolerance, or a metric this version doesn't gate on */ }
+            }
+        }
+        return assertions;
+    }
+
+    private static Properties loadBaseline() {
+        Properties properties = new Properties();
+        Path path = Path.of(System.getProperty("baseline", "baseline.properties"));
+        if (Files.exists(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                properties.load(in);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read baseline " + path, e);
+            }
+        }
+        return properties;
+    }
+}